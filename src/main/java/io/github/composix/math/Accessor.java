@@ -47,11 +47,37 @@ public interface Accessor {
     int compareAt(int index, Object container);
 
     Comparator<Ordinal> comparator(Object container);
+
+    /**
+     * Extracts the key of every element in the container once, so sorting and
+     * grouping can compare plain array slots instead of calling the accessor
+     * again for every comparison.
+     *
+     * @param container the column to extract the keys from
+     * @return a {@code long[]} or {@code Comparable[]} indexed by row
+     * @since October 2026
+     */
+    Object keys(Object container);
     
     void destroy();
 
     public interface OfObject extends Accessor {
-        static OfObject INSTANCE = new Accessor.OfObject() {
+        static OfObject INSTANCE = create();
+
+        /**
+         * Returns a fresh accessor for the given key function, leaving the shared
+         * {@link #INSTANCE} untouched so concurrent queries do not interfere.
+         *
+         * @since October 2026
+         */
+        static <T, K extends Comparable<K>> OfObject of(Function<T, K> accessor) {
+          final OfObject result = create();
+          result.accessor(accessor);
+          return result;
+        }
+
+        private static OfObject create() {
+          return new Accessor.OfObject() {
             private static final BiFunction<Ordinal,Object,Object> ACCESSOR = (index, container) -> ((Object[]) container)[index.intValue()];
 
             private BiFunction<Ordinal, Object, Object> accessor = ACCESSOR;
@@ -60,7 +86,7 @@ public interface Accessor {
             @Override
             public void setValueAt(int index, Object container) {
               current = (Comparable<Object>) accessor.apply(
-                OrdinalNumber.ORDINALS[index],
+                Ordinal.of(index),
                 container
               );
             }
@@ -78,7 +104,7 @@ public interface Accessor {
             public int compareAt(int index, Object container) {
               return current.compareTo(
                 current = (Comparable<Object>) accessor.apply(
-                  OrdinalNumber.ORDINALS[index],
+                  Ordinal.of(index),
                   container
                 )
               );
@@ -91,6 +117,18 @@ public interface Accessor {
                     accessor.apply(rhs, container)
                   );
             }
+
+            @Override
+            public Object keys(Object container) {
+              if (accessor == ACCESSOR) {
+                return container;
+              }
+              final Comparable<?>[] result = new Comparable[((Object[]) container).length];
+              for (int i = 0; i < result.length; ++i) {
+                result[i] = (Comparable<?>) accessor.apply(Ordinal.of(i), container);
+              }
+              return result;
+            }
       
             @Override
             public void destroy() {
@@ -106,12 +144,28 @@ public interface Accessor {
                 accessor.apply(((T[]) container)[index.intValue()]);
             }
           };
+        }
 
         <T,K extends Comparable<K>> void accessor(Function<T,K> accessor);
     }
 
     public interface OfLong extends Accessor {
-        static OfLong INSTANCE = new Accessor.OfLong() {
+        static OfLong INSTANCE = create();
+
+        /**
+         * Returns a fresh accessor for the given key function, leaving the shared
+         * {@link #INSTANCE} untouched so concurrent queries do not interfere.
+         *
+         * @since October 2026
+         */
+        static <T> OfLong of(ToLongFunction<T> accessor) {
+          final OfLong result = create();
+          result.accessor(accessor);
+          return result;
+        }
+
+        private static OfLong create() {
+          return new Accessor.OfLong() {
             private static final ToLongBiFunction<Ordinal,Object> ACCESSOR = (index, container) -> ((long[]) container)[index.intValue()];
 
             private ToLongBiFunction<Ordinal, Object> accessor = ACCESSOR;
@@ -125,7 +179,7 @@ public interface Accessor {
         
             @Override
             public void setValueAt(int index, Object container) {
-              current = accessor.applyAsLong(OrdinalNumber.ORDINALS[index], container);
+              current = accessor.applyAsLong(Ordinal.of(index), container);
             }
         
             @Override
@@ -142,7 +196,7 @@ public interface Accessor {
             public int compareAt(int index, Object container) {
               return Long.compare(
                 current,
-                current = accessor.applyAsLong(OrdinalNumber.ORDINALS[index], container)
+                current = accessor.applyAsLong(Ordinal.of(index), container)
               );
             }
         
@@ -154,12 +208,25 @@ public interface Accessor {
                   accessor.applyAsLong(rhs, container)
                 );
             }
+
+            @Override
+            public Object keys(Object container) {
+              if (accessor == ACCESSOR) {
+                return container;
+              }
+              final long[] result = new long[((Object[]) container).length];
+              for (int i = 0; i < result.length; ++i) {
+                result[i] = accessor.applyAsLong(Ordinal.of(i), container);
+              }
+              return result;
+            }
         
             @Override
             public void destroy() {
               accessor = ACCESSOR;
             }
           };
+        }
 
         <T> void accessor(ToLongFunction<T> accessor);
     }
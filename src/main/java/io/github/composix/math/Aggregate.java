@@ -0,0 +1,91 @@
+/**
+ * record Aggregate
+ *
+ * This record describes one aggregate of a grouping: the value to reduce, the
+ * initial value of every group and the reducer.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Describes an aggregate for {@link Keys#collect(Ordinal, java.util.List)}, which
+ * computes several aggregates of the same groups in a single pass. Every group
+ * starts at the identity, and the reducer folds in the value of every row.
+ *
+ * @since October 2026
+ */
+public record Aggregate<T>(
+  ToLongFunction<T> accessor,
+  long identity,
+  LongBinaryOperator reducer
+) {
+  /**
+   * The built-in reducers. Collecting with these very instances lets a grouped
+   * long column be reduced in vector lanes, see {@link SegmentedReduce}.
+   */
+  public static final LongBinaryOperator SUM = Long::sum;
+  public static final LongBinaryOperator MIN = Math::min;
+  public static final LongBinaryOperator MAX = Math::max;
+  public static final LongBinaryOperator COUNT = (count, value) -> count + 1;
+
+  /**
+   * Reduces the values starting from the identity of the reducer: the largest
+   * long for {@link #MIN}, the smallest long for {@link #MAX} and zero for any
+   * other reducer.
+   */
+  public static <T> Aggregate<T> of(
+    ToLongFunction<T> accessor,
+    LongBinaryOperator reducer
+  ) {
+    if (reducer == MIN) {
+      return min(accessor);
+    }
+    if (reducer == MAX) {
+      return max(accessor);
+    }
+    return new Aggregate<>(accessor, 0L, reducer);
+  }
+
+  public static <T> Aggregate<T> sum(ToLongFunction<T> accessor) {
+    return new Aggregate<>(accessor, 0L, SUM);
+  }
+
+  public static <T> Aggregate<T> count() {
+    return new Aggregate<>(value -> 0L, 0L, COUNT);
+  }
+
+  public static <T> Aggregate<T> min(ToLongFunction<T> accessor) {
+    return new Aggregate<>(accessor, Long.MAX_VALUE, MIN);
+  }
+
+  public static <T> Aggregate<T> max(ToLongFunction<T> accessor) {
+    return new Aggregate<>(accessor, Long.MIN_VALUE, MAX);
+  }
+}
@@ -61,11 +61,14 @@
 package io.github.composix.math;
 
 import io.github.composix.models.Defaults;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.ToLongFunction;
 import java.util.regex.Pattern;
+import java.util.stream.DoubleStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -127,6 +130,19 @@ public interface Args extends Cols, MutableOrder {
    */
   LongStream longStream(CharSequence header);
 
+  /**
+   * Retrieve the pos-th primitive double stream of a column. For example,
+   * doubleStream(1) returns the double stream of the first column of type
+   * double[], doubleStream(2) returns the second column of type double[], and
+   * so on. The values are streamed in the current order.
+   *
+   * @param pos - the position within the double columns
+   * @return a DoubleStream of values in the column
+   * @throws IndexOutOfBoundsException - if pos is out of bounds
+   * @since October 2026
+   */
+  DoubleStream doubleStream(int pos);
+
   /**
    * Prepare for joining on a given column; a subsequence join call on the
    * Keys interface will join on the selected column.
@@ -151,14 +167,153 @@ public interface Args extends Cols, MutableOrder {
 
   <T extends Defaults<T>> Args foreignKey(Ordinal tpos, ToLongFunction<T> accessor);
 
+  /**
+   * Prepare for joining on a foreign key by hashing instead of merging. Unlike
+   * foreignKey, the rows are not sorted: only the key of every row is extracted,
+   * and a subsequent joinOne or joinMany builds a hash table on the primary key
+   * of the other side and probes it with these keys in place. This pays off
+   * when a large fact table is joined to small dimension tables.
+   *
+   * @param tpos - the type position of the column
+   * @param accessor - the accessor function of the foreign key
+   * @return this Args object prepared for joining
+   */
+  <T extends Defaults<T>> Args hashKey(Ordinal tpos, ToLongFunction<T> accessor);
+
   Args pk(CharSequence name, Ordinal type) throws NoSuchFieldException;
 
   Args fk(CharSequence name, Ordinal type) throws NoSuchFieldException;
 
   Args attr(CharSequence name, Ordinal type) throws NoSuchFieldException;
 
+  /**
+   * Writes a long column, in the current row order, to a column file that can
+   * be memory-mapped back by {@link #attr(Path)}. Save all columns of a table
+   * after setting its key, so that they share the row order of the key.
+   *
+   * @param col - the column to write
+   * @param path - the file to write
+   * @return this Args object
+   * @throws IOException - if the file cannot be written
+   * @since October 2026
+   */
+  Args save(Ordinal col, Path path) throws IOException;
+
+  /**
+   * Writes the primary key, together with the range of its keys, to a column
+   * file that can be memory-mapped back by {@link #pk(Path)}.
+   *
+   * @param path - the file to write
+   * @return this Args object
+   * @throws IOException - if the file cannot be written
+   * @throws IllegalStateException - if there is no primary key
+   * @since October 2026
+   */
+  Args savePk(Path path) throws IOException;
+
+  /**
+   * Writes the foreign key, together with the range of its keys, to a column
+   * file that can be memory-mapped back by {@link #fk(Path)}.
+   *
+   * @param path - the file to write
+   * @return this Args object
+   * @throws IOException - if the file cannot be written
+   * @throws IllegalStateException - if there is no foreign key
+   * @since October 2026
+   */
+  Args saveFk(Path path) throws IOException;
+
+  /**
+   * Extends with a long column memory-mapped read-only from a column file; the
+   * values stay in the page cache, which processes on the same host share,
+   * instead of on the heap. The number of rows must match.
+   *
+   * @param path - the column file
+   * @return this Args object extended with the column
+   * @throws IOException - if the file cannot be read
+   * @throws IllegalArgumentException - if the number of rows differs
+   * @since October 2026
+   */
+  Args attr(Path path) throws IOException;
+
+  /**
+   * Like {@link #attr(Path)}, and takes the range of keys stored in the column
+   * file, see {@link #savePk(Path)}, as primary key, without sorting.
+   *
+   * @param path - the column file of a primary key
+   * @return this Args object extended with the column
+   * @throws IOException - if the file cannot be read
+   * @throws IllegalArgumentException - if the file holds no key or duplicates,
+   *         or if the number of rows differs
+   * @since October 2026
+   */
+  Args pk(Path path) throws IOException;
+
+  /**
+   * Like {@link #attr(Path)}, and takes the range of keys stored in the column
+   * file, see {@link #saveFk(Path)}, as foreign key, without sorting.
+   *
+   * @param path - the column file of a foreign key
+   * @return this Args object extended with the column
+   * @throws IOException - if the file cannot be read
+   * @throws IllegalArgumentException - if the file holds no key, or if the
+   *         number of rows differs
+   * @since October 2026
+   */
+  Args fk(Path path) throws IOException;
+
+  /**
+   * Writes a snapshot of the whole table: its typed columns, the current order
+   * and the ranges of the primary and foreign key, so that {@link #load(Path)}
+   * restores it without parsing or sorting. Text columns are left out, so the
+   * other columns keep their positions by type, but not their column indices.
+   *
+   * @param path - the file to write
+   * @return this Args object
+   * @throws IOException - if the file cannot be written
+   * @throws UnsupportedOperationException - if a column holds objects
+   * @since October 2026
+   */
+  Args snapshot(Path path) throws IOException;
+
+  /**
+   * Reads a table back from a snapshot, see {@link #snapshot(Path)}.
+   *
+   * @param path - the snapshot file
+   * @return the table
+   * @throws IOException - if the file cannot be read
+   * @throws IllegalArgumentException - if the file is no snapshot
+   * @since October 2026
+   */
+  static Args load(Path path) throws IOException {
+    return Snapshot.read(path);
+  }
+
   Args joinOne(Args rhs);
 
+  /**
+   * Join like joinOne, but store only the matched row of the right-hand side
+   * for every row instead of copying the matched values. The values are
+   * materialized when the column is first read, or when combine runs; joining
+   * on such a column composes the row indices, so intermediate columns of a
+   * chain of joins are never copied.
+   *
+   * @param rhs - the right-hand side with a primary key
+   * @return this Args object extended with the join column
+   * @throws IllegalArgumentException - if a key is missing or not matched
+   */
+  Args joinOneRef(Args rhs);
+
+  /**
+   * Join every row with all rows of the right-hand side whose foreign key
+   * matches its primary key. The join column always holds a list of values per
+   * row, which is empty for rows without a match, also when no row happens to
+   * match more than once.
+   *
+   * @param rhs - the right-hand side with a foreign or hash key
+   * @return this Args object extended with the join column
+   * @throws IllegalArgumentException - if a key is missing
+   */
   Keys joinMany(Args rhs);
 
 
@@ -189,6 +344,21 @@ public interface Args extends Cols, MutableOrder {
    */
   <T extends Defaults<T>> Keys groupBy(Ordinal col, ToLongFunction<T> accessor);
 
+  /**
+   * Group a DTO column by a given accessor function without sorting it. The
+   * keys are hashed into groups in a single pass, and collect reduces every
+   * row straight into its group, so that the rows are only brought into group
+   * order once an operation such as thenBy needs the groups to be contiguous.
+   * The keys and indices of the grouping are the same as those of groupBy.
+   * When the keys turn out to be mostly distinct, this method falls back to
+   * groupBy, since sorting is then cheaper than hashing.
+   *
+   * @param tpos - the type position of the column
+   * @param accessor - the accessor function to group by
+   * @return a Keys object prepared with the grouping
+   */
+  <T extends Defaults<T>> Keys hashBy(Ordinal col, ToLongFunction<T> accessor);
+
   /**
    * Split a CharSequence column into multiple CharSequence columns based on a given pattern.
    * For example, split(ArgsOrdinal.PATTERN) will spread a line of csv data over multiple columns.
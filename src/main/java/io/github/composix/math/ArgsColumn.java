@@ -36,6 +36,7 @@
 
 package io.github.composix.math;
 
+import java.nio.LongBuffer;
 import java.util.Comparator;
 import java.util.List;
 
@@ -70,6 +71,60 @@ class ArgsColumn<E extends Comparable<E>>
     indices = null;
   }
 
+  ArgsColumn(byte tpos, LongBuffer buffer) {
+    this.tpos = tpos;
+    elements = (OrdinalList<E>) new OrdinalList.BufferIndex(buffer);
+    header = ":";
+    order = null;
+    refs = CONSTANTS.index();
+    indices = null;
+  }
+
+  ArgsColumn(byte tpos, byte[] array) {
+    this.tpos = tpos;
+    elements = (OrdinalList<E>) new OrdinalList.ByteList(array);
+    header = ":";
+    order = null;
+    refs = CONSTANTS.index();
+    indices = null;
+  }
+
+  ArgsColumn(byte tpos, short[] array) {
+    this.tpos = tpos;
+    elements = (OrdinalList<E>) new OrdinalList.ShortList(array);
+    header = ":";
+    order = null;
+    refs = CONSTANTS.index();
+    indices = null;
+  }
+
+  ArgsColumn(byte tpos, int[] array) {
+    this.tpos = tpos;
+    elements = (OrdinalList<E>) new OrdinalList.IntList(array);
+    header = ":";
+    order = null;
+    refs = CONSTANTS.index();
+    indices = null;
+  }
+
+  ArgsColumn(byte tpos, double[] array) {
+    this.tpos = tpos;
+    elements = (OrdinalList<E>) new OrdinalList.DoubleList(array);
+    header = ":";
+    order = null;
+    refs = CONSTANTS.index();
+    indices = null;
+  }
+
+  ArgsColumn(byte tpos, OrdinalList.DictionaryList<E> list) {
+    this.tpos = tpos;
+    elements = list;
+    header = ":";
+    order = null;
+    refs = CONSTANTS.index();
+    indices = null;
+  }
+
   ArgsColumn(byte tpos, Object[] array) {
     this.tpos = tpos;
     elements = new ArgsObjSet<>(array);
@@ -202,7 +257,7 @@ class ArgsColumn<E extends Comparable<E>>
   // from Column
 
   public Ordinal getType() {
-    return OrdinalNumber.ORDINALS[tpos];
+    return CONSTANTS.ordinal(tpos);
   }
 
   @Override
@@ -247,5 +302,7 @@ class ArgsColumn<E extends Comparable<E>>
       count = elements.ranks(order, refs);
       elements = elements.range(count, amount, refs, order);
     }
+    // the ranks are known to be less than count only now
+    refs = Index.pack(refs);
   }
 }
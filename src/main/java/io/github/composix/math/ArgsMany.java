@@ -0,0 +1,110 @@
+/**
+ * class ArgsMany
+ *
+ * The values of a one-to-many join in compressed sparse row form: one flat
+ * array of values plus the offsets of the values of every row.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Holds the values that a one-to-many join assigns to every row of the left-hand
+ * side. Instead of an array per row, all values live in one flat array in row
+ * order, and {@code offsets[row]} up to {@code offsets[row + 1]} delimit the
+ * values of a row. Rows are exposed as zero-copy sublist views of the flat array.
+ *
+ * @since October 2026
+ */
+final class ArgsMany<E> extends AbstractList<List<E>> implements RandomAccess {
+  final Object[] values;
+  final int[] offsets;
+  private final List<E> flat;
+
+  private ArgsMany(Object[] values, int[] offsets) {
+    this.values = values;
+    this.offsets = offsets;
+    @SuppressWarnings("unchecked")
+    final List<E> flat = (List<E>) Arrays.asList(values);
+    this.flat = flat;
+  }
+
+  /**
+   * Creates the physical row layout from values and offsets given in the order
+   * of the left-hand side.
+   *
+   * @param order - the order of the left-hand side
+   * @param values - the values of all rows, in order
+   * @param offsets - the offsets of the values of every rank, in order
+   * @return the values by physical row
+   */
+  static <E> ArgsMany<E> of(Order order, Object[] values, int[] offsets) {
+    if (order.isOrdinal()) {
+      return new ArgsMany<>(values, offsets);
+    }
+    final int amount = offsets.length - 1;
+    final int[] target = new int[amount + 1];
+    for (int j = 0; j < amount; ++j) {
+      target[order.rank(j) + 1] = offsets[j + 1] - offsets[j];
+    }
+    for (int i = 0; i < amount; ++i) {
+      target[i + 1] += target[i];
+    }
+    final Object[] result = values.clone();
+    for (int j = 0; j < amount; ++j) {
+      System.arraycopy(
+        values,
+        offsets[j],
+        result,
+        target[order.rank(j)],
+        offsets[j + 1] - offsets[j]
+      );
+    }
+    return new ArgsMany<>(result, target);
+  }
+
+  /**
+   * Returns the type of the values, which is what Row.getMany selects on.
+   */
+  Class<?> getComponentType() {
+    return values.getClass().getComponentType();
+  }
+
+  @Override
+  public List<E> get(int row) {
+    return flat.subList(offsets[row], offsets[row + 1]);
+  }
+
+  @Override
+  public int size() {
+    return offsets.length - 1;
+  }
+}
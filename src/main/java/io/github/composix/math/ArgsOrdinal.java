@@ -39,6 +39,7 @@
 package io.github.composix.math;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -135,6 +136,25 @@ public interface ArgsOrdinal extends Cloneable {
         }
     }
 
+    /**
+     * Extends with the text columns of csv data, like extending with its lines
+     * and splitting them on {@link #PATTERN}, but tokenized from the bytes, so
+     * that no string is made for a line and none for a field of ASCII text.
+     * The buffer, e.g. a memory-mapped file, must not change afterwards.
+     *
+     * @param csv - the csv data, starting with a header
+     * @return a new Args object with one text column per field
+     * @throws IllegalArgumentException - if the data is no csv
+     * @since October 2026
+     */
+    default Args extend(ByteBuffer csv) {
+        try {
+            return clone().extend(csv);
+        } catch(CloneNotSupportedException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+
     default Args extend(Column<?> column) {
         try {
             return clone().extend(column);
@@ -187,12 +207,12 @@ public interface ArgsOrdinal extends Cloneable {
         }
         Class<?> actual = typeOf(A);
         for (int i = 0; i < cols; ++i) {
-            final Ordinal col = OrdinalNumber.ORDINALS[i];
+            final Ordinal col = Ordinal.of(i);
             if (actual != typeOf(col)) {
                 throw new ClassCastException("invalid type at column: " + col.column());
             }    
         }
-        final Ordinal col = OrdinalNumber.ORDINALS[cols];
+        final Ordinal col = Ordinal.of(cols);
         if (actual == typeOf(col)) {
             throw new ClassCastException("amount of columns of same type exceeds: " + cols);
         }
@@ -0,0 +1,79 @@
+/**
+ * class ArgsRefs
+ *
+ * The result of a late-materialized join: the matched row of the right-hand
+ * side for every row, instead of a copy of the matched values.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import java.lang.reflect.Array;
+
+/**
+ * Holds a join column that has not been materialized yet. The values array of
+ * the right-hand side is shared rather than copied, and {@code rows} maps every
+ * physical row of the left-hand side to the matching physical row of the
+ * right-hand side. Joining on such a column composes the indices, so only the
+ * column that is actually read is ever copied.
+ *
+ * @since October 2026
+ */
+final class ArgsRefs {
+  final Ordinal kind;
+  final Object[] values;
+  final Index rows;
+
+  ArgsRefs(Ordinal kind, Object[] values, Index rows) {
+    this.kind = kind;
+    this.values = values;
+    this.rows = rows;
+  }
+
+  /**
+   * Returns the physical row of the values that the given row refers to.
+   */
+  int getInt(int row) {
+    return rows.getInt(row);
+  }
+
+  /**
+   * Copies the referenced values into an array indexed by physical row.
+   *
+   * @return the values of the column
+   */
+  Comparable[] materialize() {
+    final int size = rows.size();
+    final Comparable[] result = (Comparable[]) Array.newInstance(
+      values.getClass().getComponentType(),
+      size
+    );
+    for (int i = 0; i < size; ++i) {
+      result[i] = (Comparable) values[rows.getInt(i)];
+    }
+    return result;
+  }
+}
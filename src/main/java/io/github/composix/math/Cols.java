@@ -78,11 +78,11 @@ public interface Cols extends ArgsOrdinal {
   }
 
   default Column<Character> charColumn(int pos) {
-    return column(AB, pos);
+    return column(AC, pos);
   }
 
   default Column<Short> shortColumn(int pos) {
-    return column(AC, pos);
+    return column(AD, pos);
   }
 
   default Column<Integer> intColumn(int pos) {
@@ -93,6 +93,10 @@ public interface Cols extends ArgsOrdinal {
     return column(AL, pos);
   }
 
+  default Column<Double> doubleColumn(int pos) {
+    return column(AN, pos);
+  }
+
   default Column<String> stringColumn(int pos) {
     return column(S, pos);
   }
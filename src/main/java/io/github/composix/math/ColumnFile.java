@@ -0,0 +1,177 @@
+/**
+ * class ColumnFile
+ *
+ * A column file holds a long column, optionally with the range of its keys,
+ * in a layout that is memory-mapped back without parsing or copying.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.LongStream;
+
+/**
+ * Reads and writes column files. A column file starts with a header of the
+ * magic number, the number of rows and the number of keys, followed by the
+ * values of the rows and, if the column is a key, the distinct keys and their
+ * cumulative counts. All numbers are little-endian.
+ *
+ * A column file is mapped read-only, so that the values stay in the page cache
+ * of the operating system, which processes on the same host share. Only the
+ * keys are read onto the heap, as joins search them as an array.
+ *
+ * @since October 2026
+ */
+final class ColumnFile {
+  private static final long MAGIC = 0x4350584C4F4E4701L;
+  private static final int HEADER = 16;
+
+  final LongBuffer values;
+  final ArgsLongSet range;
+
+  private ColumnFile(LongBuffer values, ArgsLongSet range) {
+    this.values = values;
+    this.range = range;
+  }
+
+  /**
+   * Writes the values of a column, in row order.
+   *
+   * @param path - the file to write
+   * @param rows - the number of rows
+   * @param values - the values of the rows
+   * @throws IOException - if the file cannot be written
+   */
+  static void write(Path path, int rows, LongStream values) throws IOException {
+    write(path, rows, values, null);
+  }
+
+  /**
+   * Writes a key column from the range of its keys: the rows are sorted by
+   * key, so every key is repeated as many times as it counts.
+   *
+   * @param path - the file to write
+   * @param range - the range of the keys
+   * @throws IOException - if the file cannot be written
+   */
+  static void write(Path path, Range<?> range) throws IOException {
+    final int count = range.size();
+    write(path, count == 0 ? 0 : range.indices.getInt(count - 1), null, range);
+  }
+
+  private static void write(Path path, int rows, LongStream values, Range<?> range)
+    throws IOException {
+    final int count = range == null ? -1 : range.size();
+    final long size = HEADER + (long) Long.BYTES * rows +
+      (range == null ? 0 : (long) (Long.BYTES + Integer.BYTES) * count);
+    try (
+      FileChannel channel = FileChannel.open(
+        path,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE
+      )
+    ) {
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+      buffer.putLong(MAGIC).putInt(rows).putInt(count);
+      if (range == null) {
+        final LongBuffer longs = buffer.slice(HEADER, Long.BYTES * rows)
+          .order(ByteOrder.LITTLE_ENDIAN)
+          .asLongBuffer();
+        values.forEach(longs::put);
+        if (longs.hasRemaining()) {
+          throw new IllegalArgumentException("fewer values than rows");
+        }
+      } else {
+        for (int i = 0, row = 0; i < count; ++i) {
+          final long key = range.getLong(i);
+          for (final int end = range.indices.getInt(i); row < end; ++row) {
+            buffer.putLong(key);
+          }
+        }
+        for (int i = 0; i < count; ++i) {
+          buffer.putLong(range.getLong(i));
+        }
+        for (int i = 0; i < count; ++i) {
+          buffer.putInt(range.indices.getInt(i));
+        }
+      }
+      buffer.force();
+    }
+  }
+
+  /**
+   * Maps a column file read-only.
+   *
+   * @param path - the file to map
+   * @return the mapped values and the range of the keys, if any
+   * @throws IOException - if the file cannot be read
+   * @throws IllegalArgumentException - if the file is no column file
+   */
+  static ColumnFile map(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+        .order(ByteOrder.LITTLE_ENDIAN);
+      if (buffer.remaining() < HEADER || buffer.getLong() != MAGIC) {
+        throw new IllegalArgumentException("not a column file: " + path);
+      }
+      final int rows = buffer.getInt(), count = buffer.getInt();
+      final LongBuffer values = buffer.slice(HEADER, Long.BYTES * rows)
+        .order(ByteOrder.LITTLE_ENDIAN)
+        .asLongBuffer();
+      if (count < 0) {
+        return new ColumnFile(values, null);
+      }
+      buffer.position(HEADER + Long.BYTES * rows);
+      final long[] keys = new long[count];
+      for (int i = 0; i < count; ++i) {
+        keys[i] = buffer.getLong();
+      }
+      final Index indices = Index.monotone(count, rows);
+      for (int i = 0; i < count; ++i) {
+        indices.setInt(i, buffer.getInt());
+      }
+      return new ColumnFile(values, (ArgsLongSet) Range.ofLongs(indices, keys));
+    }
+  }
+
+  /**
+   * Returns the mapped values as a column of type long[].
+   */
+  ArgsColumn<Long> column() {
+    return new ArgsColumn<>(ArgsOrdinal.AL.byteValue(), values);
+  }
+}
@@ -34,7 +34,11 @@
 
 package io.github.composix.math;
 
+import java.lang.invoke.MethodHandles;
 import java.net.URI;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import io.github.composix.models.Defaults;
 
@@ -44,6 +48,16 @@ import io.github.composix.models.Defaults;
  * conform to the expected types according to the ordinal type system, e.g.,
  * {@code CONSTANTS.check(AL, 0L, 1L, 2L)}.
  *
+ * The singleton is created during class initialization, which the JVM guarantees
+ * to happen exactly once, even when multiple threads race for it. It creates no
+ * ordinals there, as creating one initializes ArgsOrdinal, which needs this
+ * class in turn. Instead, the type definitions and OMEGA are created on first
+ * use, and the other predefined ordinals on demand: the table below OMEGA is
+ * populated in chunks that double in size and the one above it per ordinal, so
+ * that short-lived processes only pay for the ordinals they actually use. Both
+ * tables are published through volatile reads, so that only a miss takes the
+ * lock.
+ *
  * @author dr. ir. J. M. Valk
  * @since April 2025
  */
@@ -51,51 +65,50 @@ final class Constants {
 
   static final int SIZE = 16;
 
-  static Constants INSTANCE;
+  static final Constants INSTANCE = new Constants();
 
   static Constants getInstance() {
-    if (INSTANCE == null) {
-      INSTANCE = new Constants();
-      for (int i = 0; i <= Short.MAX_VALUE; ++i) {
-        INSTANCE.ordinal(i);
-      }
-      INSTANCE.omega();
-      final Ordinal[] ordinals = INSTANCE.ordinals;
-      final Ordinal[] columns = INSTANCE.columns;
-      columns[0] = ordinals[0];
-      columns[1] = ordinals[-Short.MIN_VALUE];
-      for (int i = 2; i < columns.length; ++i) {
-        columns[i] = new OrdinalInt(i * -Short.MIN_VALUE);
-      }
-      // type definitions
-      ordinals[18].all("");
-      ordinals[20].all(URI.create("."));
-      ordinals[26].any(false);
-      ordinals[27].any((byte) 0);
-      ordinals[28].any(' ');
-      ordinals[29].any((short) 0);
-      //ordinals[30].all(new boolean[0]);
-      //ordinals[31].all(new byte[0]);
-      //ordinals[32].all(new char[0]);
-      //ordinals[33].all(new short[0]);
-      ordinals[34].any(0);
-      //ordinals[35].all(new int[0]);
-      //ordinals[36].all(new long[0]);
-      ordinals[37].any(0L);
-    }
     return INSTANCE;
   }
 
+  private static final int OMEGA = -Short.MIN_VALUE, CHUNK = 64;
+
   final Object[] types;
-  final Ordinal[] ordinals;
-  final Ordinal[] columns;
-  private Index index;
+  private final AtomicReferenceArray<Ordinal> columns;
+  // ordinals below OMEGA, fully populated before being published
+  private volatile Ordinal[] ordinals;
+  // ordinals from OMEGA onwards, indexed relative to OMEGA
+  private volatile AtomicReferenceArray<Ordinal> omegas;
+  private volatile Index index;
+  private boolean defined;
 
   private Constants() {
     types = new Object[26];
-    ordinals = new Ordinal[Short.MAX_VALUE - Short.MIN_VALUE];
-    columns = new Ordinal[Byte.MAX_VALUE - Byte.MIN_VALUE];
-    index = Index.of(-Short.MIN_VALUE);
+    columns = new AtomicReferenceArray<>(Byte.MAX_VALUE - Byte.MIN_VALUE);
+    ordinals = new Ordinal[0];
+    omegas = new AtomicReferenceArray<>(0);
+    index = null;
+  }
+
+  private void define() {
+    omega();
+    // type definitions
+    check(ordinal(18), new String[] { "" });
+    check(ordinal(20), new URI[] { URI.create(".") });
+    check(ordinal(26), new boolean[] { false });
+    check(ordinal(27), new byte[] { 0 });
+    check(ordinal(28), new char[] { ' ' });
+    check(ordinal(29), new short[] { 0 });
+    //check(ordinal(30), new boolean[0][]);
+    //check(ordinal(31), new byte[0][]);
+    //check(ordinal(32), new char[0][]);
+    //check(ordinal(33), new short[0][]);
+    check(ordinal(34), new int[] { 0 });
+    //check(ordinal(35), new int[0][]);
+    //check(ordinal(36), new long[0][]);
+    check(ordinal(37), new long[] { 0L });
+    check(ordinal(38), new float[] { 0F });
+    check(ordinal(39), new double[] { 0D });
   }
 
   /**
@@ -130,6 +143,10 @@ final class Constants {
     if (array instanceof OrdinalList<?> list) {
       array = list.asArray();
     }
+    if (array instanceof LongBuffer) {
+      // an off-heap column stands in for a long[]
+      array = new long[0];
+    }
     Object type = types[index];
     if (type == null) {
       types[index] = array;
@@ -147,23 +164,117 @@ final class Constants {
   }
 
   Ordinal ordinal(int index) {
-    Ordinal ordinal = ordinals[index];
-    if (ordinal == null) {
-      ordinal = new OrdinalInt(index);
-      if (ordinals[index] == null) {
-        ordinals[index] = ordinal;
-      } else {
-        ordinal = ordinals[index];
+    if (index < OMEGA) {
+      final Ordinal[] table = ordinals;
+      if (index < table.length) {
+        return table[index];
+      }
+    } else {
+      final AtomicReferenceArray<Ordinal> table = omegas;
+      if (index - OMEGA < table.length()) {
+        final Ordinal ordinal = table.get(index - OMEGA);
+        if (ordinal != null) {
+          return ordinal;
+        }
       }
     }
-    return ordinal;
+    return populate(index);
   }
 
   Ordinal omega() {
-    return ordinal(-Short.MIN_VALUE);
+    return ordinal(OMEGA);
+  }
+
+  Ordinal column(int index) {
+    Ordinal column = columns.get(index);
+    if (column == null) {
+      column = index < 2 ? ordinal(index * OMEGA) : new OrdinalInt(index * OMEGA);
+      if (!columns.compareAndSet(index, null, column)) {
+        column = columns.get(index);
+      }
+    }
+    return column;
   }
 
   Index index() {
-    return index;
+    Index result = index;
+    if (result == null) {
+      synchronized (this) {
+        result = index;
+        if (result == null) {
+          index = result = Index.of(OMEGA);
+        }
+      }
+    }
+    return result;
+  }
+
+  private Ordinal populate(int index) {
+    if (index < 0 || index >= Short.MAX_VALUE - Short.MIN_VALUE) {
+      throw new ArrayIndexOutOfBoundsException(index);
+    }
+    initialize();
+    synchronized (this) {
+      if (!defined) {
+        defined = true;
+        define();
+      }
+      return index < OMEGA ? populateBelow(index) : populateAbove(index);
+    }
+  }
+
+  private Ordinal populateBelow(int index) {
+    Ordinal[] table = ordinals;
+    while (index >= table.length) {
+      final int length = Math.min(OMEGA, Math.max(CHUNK, Integer.highestOneBit(index) << 1));
+      final Ordinal[] grown = Arrays.copyOf(table, length);
+      for (int i = table.length; i < length; ++i) {
+        grown[i] = new OrdinalInt(i);
+      }
+      // the first ordinal triggers class initialization, which may already have
+      // published a table; keep that one to preserve identity
+      if (ordinals == table) {
+        ordinals = grown;
+      }
+      table = ordinals;
+    }
+    return table[index];
+  }
+
+  private Ordinal populateAbove(int index) {
+    final int slot = index - OMEGA;
+    AtomicReferenceArray<Ordinal> table = omegas;
+    if (slot >= table.length()) {
+      final int length = Math.min(OMEGA - 1, Math.max(1, Integer.highestOneBit(slot) << 1));
+      final AtomicReferenceArray<Ordinal> grown = new AtomicReferenceArray<>(length);
+      for (int i = 0; i < table.length(); ++i) {
+        grown.set(i, table.get(i));
+      }
+      omegas = table = grown;
+    }
+    final Ordinal ordinal = table.get(slot);
+    return ordinal == null ? create(index) : ordinal;
+  }
+
+  /**
+   * Initializes the ordinal classes before the lock is taken. Their
+   * initialization populates this table through ArgsOrdinal, so a thread that
+   * holds the lock must never have to wait for it. OrdinalInt is the class that
+   * is created here, so its initialization is awaited as a whole rather than
+   * that of OrdinalNumber alone, which another thread may be in the middle of.
+   */
+  private static void initialize() {
+    try {
+      MethodHandles.lookup().ensureInitialized(OrdinalInt.class);
+    } catch (IllegalAccessException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private Ordinal create(int index) {
+    final Ordinal ordinal = new OrdinalInt(index);
+    // the table may have grown meanwhile, see populateBelow
+    final AtomicReferenceArray<Ordinal> table = omegas;
+    return table.compareAndSet(index - OMEGA, null, ordinal) ? ordinal : table.get(index - OMEGA);
   }
 }
@@ -0,0 +1,226 @@
+/**
+ * class CsvTokenizer
+ *
+ * Splits csv data into text columns by scanning its bytes, without reading
+ * lines into strings first.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Tokenizes csv data in the convention of {@link ArgsOrdinal#PATTERN}: every
+ * field is quoted with {@link ArgsOrdinal#QUOTE} and fields are separated by
+ * {@link ArgsOrdinal#DELIM}. A quote only closes a field when it is followed
+ * by a delimiter and a quote, or by the end of the line, just like splitting a
+ * line on the pattern, so quotes inside a field need no escaping.
+ *
+ * The result has the layout of {@link Args#split(java.util.regex.Pattern)}:
+ * one text column per field with the interned header, suffixed by a colon, at
+ * index zero. A field of ASCII text is a view on the bytes of the buffer
+ * rather than a string, so that keys and numbers are parsed without copying;
+ * the buffer must therefore not change afterwards. Other fields are decoded as
+ * UTF-8.
+ *
+ * @since October 2026
+ */
+final class CsvTokenizer {
+  private static final byte QUOTE = (byte) ArgsOrdinal.QUOTE;
+  private static final byte DELIM = (byte) ArgsOrdinal.DELIM;
+  private static final byte CR = '\r', LF = '\n';
+
+  private final ByteBuffer csv;
+  private final int limit;
+  private int position, start, end;
+  private boolean ascii;
+
+  private CsvTokenizer(ByteBuffer csv) {
+    this.csv = csv;
+    limit = csv.limit();
+    position = csv.position();
+  }
+
+  /**
+   * Tokenizes the remaining bytes of the buffer; empty lines are skipped.
+   *
+   * @param csv - the csv data, starting with a header
+   * @return the text columns
+   * @throws IllegalArgumentException - if the data is no csv
+   */
+  static CharSequence[][] tokenize(ByteBuffer csv) {
+    final CsvTokenizer tokenizer = new CsvTokenizer(csv);
+    final CharSequence[] header = tokenizer.header();
+    final int size = header.length, lines = tokenizer.lines();
+    final CharSequence[][] columns = new CharSequence[size][lines + 1];
+    for (int i = 0; i < size; ++i) {
+      columns[i][0] = header[i];
+    }
+    int rows = 0;
+    while (tokenizer.skip()) {
+      ++rows;
+      for (int i = 0; i < size; ++i) {
+        if (tokenizer.scan() != (i == size - 1)) {
+          throw new IllegalArgumentException(
+            "expected " + size + " fields at row " + rows
+          );
+        }
+        columns[i][rows] = tokenizer.text();
+      }
+    }
+    if (rows < lines) {
+      for (int i = 0; i < size; ++i) {
+        columns[i] = Arrays.copyOf(columns[i], rows + 1);
+      }
+    }
+    return columns;
+  }
+
+  private CharSequence[] header() {
+    if (!skip()) {
+      throw new IllegalArgumentException("csv must start with a header");
+    }
+    CharSequence[] result = new CharSequence[8];
+    int size = 0;
+    boolean last;
+    do {
+      last = scan();
+      if (size == result.length) {
+        result = Arrays.copyOf(result, size << 1);
+      }
+      result[size++] = (decode() + ":").intern();
+    } while (!last);
+    return Arrays.copyOf(result, size);
+  }
+
+  /**
+   * Counts the line feeds after the header, which bounds the number of rows.
+   */
+  private int lines() {
+    int count = 1;
+    for (int i = position; i < limit; ++i) {
+      if (csv.get(i) == LF) {
+        ++count;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Skips line ends; returns whether a line follows.
+   */
+  private boolean skip() {
+    byte value;
+    while (position < limit && ((value = csv.get(position)) == CR || value == LF)) {
+      ++position;
+    }
+    return position < limit;
+  }
+
+  /**
+   * Scans a field from its opening quote; returns whether it ends the line.
+   */
+  private boolean scan() {
+    if (position == limit || csv.get(position) != QUOTE) {
+      throw new IllegalArgumentException("expected quote at byte " + position);
+    }
+    start = ++position;
+    ascii = true;
+    while (position < limit) {
+      final byte value = csv.get(position++);
+      if (value == QUOTE) {
+        end = position - 1;
+        if (position == limit) {
+          return true;
+        }
+        final byte next = csv.get(position);
+        if (next == CR || next == LF) {
+          return true;
+        }
+        if (next == DELIM && position + 1 < limit && csv.get(position + 1) == QUOTE) {
+          ++position;
+          return false;
+        }
+      } else if (value == CR || value == LF) {
+        break;
+      } else if (value < 0) {
+        ascii = false;
+      }
+    }
+    throw new IllegalArgumentException("unterminated field at byte " + start);
+  }
+
+  private CharSequence text() {
+    return ascii ? new Text(csv, start, end - start) : decode();
+  }
+
+  private String decode() {
+    final byte[] bytes = new byte[end - start];
+    csv.get(start, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * A field of ASCII text, as a view on the bytes of the csv data.
+   */
+  static final class Text implements CharSequence {
+    private final ByteBuffer bytes;
+    private final int offset, length;
+
+    Text(ByteBuffer bytes, int offset, int length) {
+      this.bytes = bytes;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    @Override
+    public int length() {
+      return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return (char) bytes.get(offset + Objects.checkIndex(index, length));
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      Objects.checkFromToIndex(start, end, length);
+      return new Text(bytes, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+      final byte[] result = new byte[length];
+      bytes.get(offset, result);
+      return new String(result, StandardCharsets.US_ASCII);
+    }
+  }
+}
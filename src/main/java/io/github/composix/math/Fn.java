@@ -31,7 +31,7 @@ import java.util.function.ToLongFunction;
 
 @FunctionalInterface
 interface Fn<A,B> extends Function<A,B> {
-    static ToLongFunction<CharSequence> parseLong = value -> Long.parseLong(value.toString());
+    static ToLongFunction<CharSequence> parseLong = Row::parseLong;
 
     static <A> Fn<A,Integer> of(FnObjInt<A> fn) {
         return fn;
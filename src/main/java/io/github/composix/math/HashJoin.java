@@ -0,0 +1,146 @@
+/**
+ * class HashJoin
+ *
+ * Radix-partitioned hash join of 64-bit keys on the common fork-join pool.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Matches probe keys against unique build keys. Below
+ * {@link MutableOrder#PARALLEL_THRESHOLD} probe keys, a single hash table is
+ * built and probed on the calling thread. Above it, both sides are first
+ * partitioned by the high bits of their hash, so that every partition has its
+ * own small hash table that stays in cache, and the partitions are joined
+ * independently on the common fork-join pool. Each probe key belongs to exactly
+ * one partition, so the tasks write disjoint slots of the result.
+ *
+ * @since October 2026
+ */
+final class HashJoin {
+    private static final int PARTITION_BITS = 12, MAX_BITS = 8;
+
+    private final long[] buildKeys, probeKeys;
+    private final int[] buildValues, result;
+    private int[] build, probe, buildOffsets, probeOffsets;
+
+    private HashJoin(long[] buildKeys, int[] buildValues, long[] probeKeys) {
+        this.buildKeys = buildKeys;
+        this.buildValues = buildValues;
+        this.probeKeys = probeKeys;
+        result = new int[probeKeys.length];
+    }
+
+    /**
+     * Looks up every probe key among the build keys.
+     *
+     * @param buildKeys - the unique keys to build the hash tables from
+     * @param buildValues - the value, e.g., the row, of every build key
+     * @param probeKeys - the keys to look up
+     * @return for every probe key, the value of the matching build key or
+     *         {@link LongHashTable#EMPTY} if there is none
+     */
+    static int[] match(long[] buildKeys, int[] buildValues, long[] probeKeys) {
+        final HashJoin join = new HashJoin(buildKeys, buildValues, probeKeys);
+        if (probeKeys.length < MutableOrder.PARALLEL_THRESHOLD) {
+            join.joinPartition(0, buildKeys.length, 0, probeKeys.length);
+        } else {
+            final int bits = Math.min(
+                MAX_BITS,
+                Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(probeKeys.length >>> PARTITION_BITS))
+            );
+            join.buildOffsets = new int[(1 << bits) + 1];
+            join.probeOffsets = new int[(1 << bits) + 1];
+            join.build = partition(buildKeys, bits, join.buildOffsets);
+            join.probe = partition(probeKeys, bits, join.probeOffsets);
+            ForkJoinPool.commonPool().invoke(join.new JoinTask(0, 1 << bits));
+        }
+        return join.result;
+    }
+
+    /**
+     * Stable counting sort of the key indices by partition.
+     */
+    private static int[] partition(long[] keys, int bits, int[] offsets) {
+        final int shift = Integer.SIZE - bits, partitions = offsets.length - 1;
+        for (final long key : keys) {
+            ++offsets[(LongHashTable.hash(key) >>> shift) + 1];
+        }
+        for (int p = 0; p < partitions; ++p) {
+            offsets[p + 1] += offsets[p];
+        }
+        final int[] cursor = new int[partitions];
+        System.arraycopy(offsets, 0, cursor, 0, partitions);
+        final int[] result = new int[keys.length];
+        for (int i = 0; i < keys.length; ++i) {
+            result[cursor[LongHashTable.hash(keys[i]) >>> shift]++] = i;
+        }
+        return result;
+    }
+
+    private void joinPartition(int buildFrom, int buildTo, int probeFrom, int probeTo) {
+        final int[] build = this.build, probe = this.probe;
+        final LongHashTable table = new LongHashTable(buildTo - buildFrom);
+        for (int b = buildFrom; b < buildTo; ++b) {
+            final int i = build == null ? b : build[b];
+            table.putIfAbsent(buildKeys[i], buildValues[i]);
+        }
+        for (int p = probeFrom; p < probeTo; ++p) {
+            final int j = probe == null ? p : probe[p];
+            result[j] = table.get(probeKeys[j]);
+        }
+    }
+
+    private final class JoinTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int fromPartition, toPartition;
+
+        JoinTask(int fromPartition, int toPartition) {
+            this.fromPartition = fromPartition;
+            this.toPartition = toPartition;
+        }
+
+        @Override
+        protected void compute() {
+            if (toPartition - fromPartition == 1) {
+                joinPartition(
+                    buildOffsets[fromPartition],
+                    buildOffsets[toPartition],
+                    probeOffsets[fromPartition],
+                    probeOffsets[toPartition]
+                );
+                return;
+            }
+            final int middle = (fromPartition + toPartition) >>> 1;
+            invokeAll(new JoinTask(fromPartition, middle), new JoinTask(middle, toPartition));
+        }
+    }
+}
@@ -73,15 +73,74 @@ interface Index {
    * that may occur; as 0 is the smallest index, the length of the target list is thus
    * lastIndex + 1.
    *
+   * The index takes the minimal number of bits that holds lastIndex: a byte,
+   * short or int when that is exactly what it takes, and a bit-packed index
+   * otherwise.
+   *
    * @param length - the length of the index
    * @param lastIndex - the maximum index that may occur
    * @return an index of the specified length and target range (0 to lastIndex)
    */
   static Index of(int length, int lastIndex) {
-    if (lastIndex <= Short.MAX_VALUE) {
-      return OrdinalList.of(length, (short) lastIndex);
+    final int width = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(lastIndex, 1));
+    switch (width) {
+      case Byte.SIZE - 1:
+      case Short.SIZE - 1:
+        return OrdinalList.of(length, (short) lastIndex);
+      case Integer.SIZE - 1:
+        return OrdinalList.ofLong(length, lastIndex);
+      default:
+        return new OrdinalList.PackedIndex(length, 0, width);
+    }
+  }
+
+  /**
+   * Creates an index for a non-decreasing sequence of the specified length,
+   * with values from 0 up to lastValue; e.g., cumulative counts. The values
+   * must be set in order. The index is Elias-Fano encoded when that takes
+   * fewer bits than {@link #of(int, int)}, which is the case for many groups
+   * of a large table.
+   *
+   * @param length - the length of the index
+   * @param lastValue - the maximum value that may occur
+   * @return an index of the specified length for values 0 to lastValue
+   */
+  static Index monotone(int length, int lastValue) {
+    final int width = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(lastValue, 1));
+    if (OrdinalList.MonotoneIndex.bits(length, lastValue) < (long) length * width) {
+      return new OrdinalList.MonotoneIndex(length, lastValue);
     }
-    return OrdinalList.ofLong(length, lastIndex);
+    return of(length, lastValue);
+  }
+
+  /**
+   * Copies the given index into the narrowest index that holds its values,
+   * taking the actual minimum as frame of reference and the actual maximum
+   * to determine the number of bits; e.g., to shrink ranks once the number
+   * of distinct values is known.
+   *
+   * @param index - the index to copy
+   * @return an index with the same values in the minimal width
+   */
+  static Index pack(Index index) {
+    final int size = index.size();
+    int min = size == 0 ? 0 : index.getInt(0), max = min;
+    for (int i = 1; i < size; ++i) {
+      final int value = index.getInt(i);
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+    }
+    final Index result = min == 0
+      ? of(size, max)
+      : new OrdinalList.PackedIndex(
+        size,
+        min,
+        Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(max - min, 1))
+      );
+    for (int i = 0; i < size; ++i) {
+      result.setInt(i, index.getInt(i));
+    }
+    return result;
   }
 
   int size();
@@ -0,0 +1,51 @@
+/**
+ * interface KeyComparator
+ *
+ * Comparator of rows by keys that were extracted beforehand.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import java.util.Comparator;
+
+/**
+ * Compares rows by keys that were extracted beforehand, e.g., a column of longs
+ * or the keys that an accessor computed for each row. A comparison reads only
+ * the keys, so it has no side effects and is safe to call from multiple threads,
+ * which is what allows {@link MutableOrder} to sort large tables in parallel.
+ *
+ * @since October 2026
+ */
+@FunctionalInterface
+interface KeyComparator extends Comparator<Ordinal> {
+    int compare(int lhs, int rhs);
+
+    @Override
+    default int compare(Ordinal lhs, Ordinal rhs) {
+        return compare(lhs.intValue(), rhs.intValue());
+    }
+}
@@ -34,8 +34,11 @@
 
 package io.github.composix.math;
 
+import java.util.List;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.Function;
 import java.util.function.LongBinaryOperator;
+import java.util.function.ToDoubleFunction;
 import java.util.function.ToLongFunction;
 
 import io.github.composix.models.Defaults;
@@ -45,12 +48,52 @@ public interface Keys {
 
   <T extends Comparable<T>> Column<OrdinalList<T>> collect(Ordinal tpos);
 
+  /**
+   * Collect one aggregate of the groups, starting from zero for every group.
+   * With {@link Aggregate#SUM}, {@link Aggregate#MIN}, {@link Aggregate#MAX} or
+   * {@link Aggregate#COUNT} as reducer, a sorted grouping is reduced segment by
+   * segment, in vector lanes where available.
+   *
+   * @param col - the column to aggregate
+   * @param accessor - the value to reduce of every row
+   * @param reducer - the reducer
+   * @return the Args object with the collected column
+   */
   <T> Args collect(
     Ordinal col,
     ToLongFunction<T> accessor,
     LongBinaryOperator reducer
   );
 
+  /**
+   * Collect one aggregate of the groups as a column of type double[], starting
+   * from zero for every group, so that monetary and metric values are reduced
+   * without boxing.
+   *
+   * @param col - the column to aggregate
+   * @param accessor - the value to reduce of every row
+   * @param reducer - the reducer, e.g., Double::sum
+   * @return the Args object with the collected column
+   * @since October 2026
+   */
+  <T> Args collectDouble(
+    Ordinal col,
+    ToDoubleFunction<T> accessor,
+    DoubleBinaryOperator reducer
+  );
+
+  /**
+   * Collect several aggregates of the groups in a single pass over the rows,
+   * instead of one pass per aggregate. Every aggregate yields a long column,
+   * in the order given.
+   *
+   * @param col - the column to aggregate
+   * @param aggregates - the aggregates to compute, e.g. sum, count, min and max
+   * @return the Args object with the collected columns
+   * @since October 2026
+   */
+  <T> Args collect(Ordinal col, List<Aggregate<T>> aggregates);
+
   <T extends Defaults<T>> Column<T> combine(T defaults);
 
   void thenBy(Ordinal col, Accessor accessor);
@@ -61,18 +104,12 @@ public interface Keys {
     Ordinal col,
     Function<T, K> accessor
   ) {
-    final Accessor.OfObject accessObject = Accessor.OfObject.INSTANCE;
-    accessObject.accessor(accessor);
-    thenBy(col, accessObject);
-    accessObject.destroy();
+    thenBy(col, Accessor.OfObject.of(accessor));
     return this;
   }
 
   default <T> Keys thenBy(Ordinal col, ToLongFunction<T> accessor) {
-    final Accessor.OfLong accessLong = Accessor.OfLong.INSTANCE;
-    accessLong.accessor(accessor);
-    thenBy(col, accessLong);
-    accessLong.destroy();
+    thenBy(col, Accessor.OfLong.of(accessor));
     return this;
   }
 }
@@ -0,0 +1,134 @@
+/**
+ * class LongHashTable
+ *
+ * Open-addressing hash table from 64-bit keys to non-negative ints.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import java.util.Arrays;
+
+/**
+ * Maps 64-bit keys to non-negative ints, typically row or group numbers, using
+ * linear probing over two parallel primitive arrays. No key is boxed, so that
+ * building the table over a column is a single pass that allocates nothing but
+ * the arrays themselves. The table grows by doubling whenever it becomes half
+ * full, which keeps probe sequences short.
+ *
+ * @since October 2026
+ */
+final class LongHashTable {
+    static final int EMPTY = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int mask, size;
+
+    /**
+     * Creates a table that holds the expected number of keys without growing.
+     *
+     * @param expected - the expected number of distinct keys
+     */
+    LongHashTable(int expected) {
+        final int capacity = Integer.highestOneBit(Math.max(expected, 4) * 2 - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, EMPTY);
+        mask = capacity - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of the key, or {@link #EMPTY} if the key is absent.
+     */
+    int get(long key) {
+        final long[] keys = this.keys;
+        final int[] values = this.values;
+        int i = hash(key) & mask, value;
+        while ((value = values[i]) != EMPTY) {
+            if (keys[i] == key) {
+                return value;
+            }
+            i = (i + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Associates the key with the value unless the key is already present.
+     *
+     * @param key - the key
+     * @param value - the non-negative value to store
+     * @return the value already present, or {@link #EMPTY} if the key was added
+     */
+    int putIfAbsent(long key, int value) {
+        final long[] keys = this.keys;
+        final int[] values = this.values;
+        int i = hash(key) & mask, current;
+        while ((current = values[i]) != EMPTY) {
+            if (keys[i] == key) {
+                return current;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > mask >> 1) {
+            grow();
+        }
+        return EMPTY;
+    }
+
+    private void grow() {
+        final long[] keys = this.keys;
+        final int[] values = this.values;
+        final int capacity = keys.length << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        Arrays.fill(this.values, EMPTY);
+        mask = capacity - 1;
+        for (int i = 0; i < keys.length; ++i) {
+            if (values[i] != EMPTY) {
+                int j = hash(keys[i]) & mask;
+                while (this.values[j] != EMPTY) {
+                    j = (j + 1) & mask;
+                }
+                this.keys[j] = keys[i];
+                this.values[j] = values[i];
+            }
+        }
+    }
+
+    static int hash(long key) {
+        // Fibonacci hashing spreads sequential ids over the whole table
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * class LongLanes
+ *
+ * Reductions of long[] slices in the lanes of the Vector API.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Reduces a slice of a long[] in the preferred vector species of the platform,
+ * and folds the remainder that does not fill a vector one value at a time. This
+ * class is only loaded when the {@code jdk.incubator.vector} module is present,
+ * see {@link SegmentedReduce#VECTORIZED}.
+ *
+ * @since October 2026
+ */
+final class LongLanes {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * The shortest slice worth loading into vectors.
+     */
+    static final int THRESHOLD = 4 * SPECIES.length();
+
+    private LongLanes() {
+    }
+
+    static long sum(long[] values, int from, int to) {
+        final int bound = from + SPECIES.loopBound(to - from);
+        LongVector lanes = LongVector.zero(SPECIES);
+        int j = from;
+        for (; j < bound; j += SPECIES.length()) {
+            lanes = lanes.add(LongVector.fromArray(SPECIES, values, j));
+        }
+        long result = lanes.reduceLanes(VectorOperators.ADD);
+        for (; j < to; ++j) {
+            result += values[j];
+        }
+        return result;
+    }
+
+    static long min(long[] values, int from, int to) {
+        final int bound = from + SPECIES.loopBound(to - from);
+        LongVector lanes = LongVector.broadcast(SPECIES, Long.MAX_VALUE);
+        int j = from;
+        for (; j < bound; j += SPECIES.length()) {
+            lanes = lanes.min(LongVector.fromArray(SPECIES, values, j));
+        }
+        long result = lanes.reduceLanes(VectorOperators.MIN);
+        for (; j < to; ++j) {
+            result = Math.min(result, values[j]);
+        }
+        return result;
+    }
+
+    static long max(long[] values, int from, int to) {
+        final int bound = from + SPECIES.loopBound(to - from);
+        LongVector lanes = LongVector.broadcast(SPECIES, Long.MIN_VALUE);
+        int j = from;
+        for (; j < bound; j += SPECIES.length()) {
+            lanes = lanes.max(LongVector.fromArray(SPECIES, values, j));
+        }
+        long result = lanes.reduceLanes(VectorOperators.MAX);
+        for (; j < to; ++j) {
+            result = Math.max(result, values[j]);
+        }
+        return result;
+    }
+}
@@ -34,20 +34,26 @@
 
 package io.github.composix.math;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.Function;
 import java.util.function.LongBinaryOperator;
-import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
 import java.util.function.ToLongFunction;
 import java.util.regex.Pattern;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -56,20 +62,23 @@ import io.github.composix.models.Defaults;
 public class Matrix extends OrderInt implements Keys, Args {
 
   private static final byte TPOS_DTO = -1;
-  private static final byte[] LENGTHS = new byte[16];
-  private static final Cursor CURSOR = Cursor.ofRow(LENGTHS);
+  private static final int HASH_LIMIT = 64;
 
   boolean flip;
   byte length, source, target, tpos;
   ArgsLongSet pk, fk;
+  long[] hk;
+  int[] groups;
+  private transient VarArgs arena;
 
   protected Matrix(int ordinal) {
     super(ordinal);
     length = 0;
+    arena = VarArgs.current();
   }
 
   protected VarArgs varArgs() {
-    return VarArgs.VARARGS;
+    return arena;
   }
 
   // from ArgsOrdinal
@@ -84,6 +93,7 @@ public class Matrix extends OrderInt implements Keys, Args {
     final Matrix result = (Matrix) super.clone();
     result.ordinal %= OMEGA.intValue();
     result.length = 0;
+    result.arena = VarArgs.current();
     return result;
   }
 
@@ -95,6 +105,7 @@ public class Matrix extends OrderInt implements Keys, Args {
     size += offset;
     if (offset < (size & mask)) {
       do {
+        resolve(varargs, offset);
         final Column<?> column = varargs.columns[offset];
         if (column == null) {
           target.extend(0, OMEGA.amount(ordinal), varargs.argv[offset]);
@@ -114,10 +125,16 @@ public class Matrix extends OrderInt implements Keys, Args {
 
   @Override
   public Class<?> typeOf(Ordinal col) {
-    return typeOf(argv(col.intValue()));
+    return typeOf(resolve(varArgs(), mask(hashCode() + col.intValue())));
   }
 
   private Class<?> typeOf(Object value) {
+    if (value instanceof LongBuffer) {
+      return long.class;
+    }
+    if (value instanceof OrdinalList.DictionaryList<?> list) {
+      return list.dictionary().getClass().getComponentType();
+    }
     return value == null ? Void.class : value.getClass().getComponentType();
   }
 
@@ -127,6 +144,7 @@ public class Matrix extends OrderInt implements Keys, Args {
       throw new UnsupportedOperationException("text-only matrix required");
     }
     final VarArgs varargs = varArgs();
+    varargs.reserve(offset(), varargs.positions.getInt(offset() & varargs.mask()) + 1, 0);
     final Index positions = varargs.positions;
     final int offset = offset() & varargs.mask();
     int position = positions.getInt(offset);
@@ -138,15 +156,35 @@ public class Matrix extends OrderInt implements Keys, Args {
     return this;
   }
 
+  @Override
+  public Args extend(ByteBuffer csv) {
+    final CharSequence[][] columns = CsvTokenizer.tokenize(csv);
+    extend(columns[0]);
+    final VarArgs varargs = varArgs();
+    varargs.reserve(offset(), columns.length, 0);
+    final int mask = varargs.mask(), offset = offset() & mask;
+    for (int i = 1; i < columns.length; ++i) {
+      varargs.argv[(offset + i) & mask] = columns[i];
+    }
+    varargs.positions.setInt(offset, columns.length);
+    return this;
+  }
+
   @Override
   public Args extend(Column<?> column) {
     //if (!isOrdinal()) {
     //  throw new IllegalStateException("extend not allowed after reordering");
     //}
+    extend(column.getType(), column.source(), (ArgsColumn<?>) column);
+    column.attachOrder(this);
+    return this;
+  }
+
+  private void extend(Ordinal kind, Object source, ArgsColumn<?> column) {
     final VarArgs varargs = varArgs();
-    final int offset = offset() & varargs.mask();
-    final Index positions = varargs.positions;
-    int tpos = column.getType().intValue() - SIZE, type = 1, pos = 0, i;
+    int mask = varargs.mask(), offset = offset() & mask;
+    Index positions = varargs.positions;
+    int tpos = kind.intValue() - SIZE, type = 1, pos = 0, i;
     if (tpos < 0) {
       tpos = TPOS_DTO & MASK;
     }
@@ -164,31 +202,35 @@ public class Matrix extends OrderInt implements Keys, Args {
       type = 1;
     }
     Object[] argv = varargs.argv;
-    if (argv[pos] == null) {
-      pos += offset;
+    if (argv[(offset + pos) & mask] == null) {
+      varargs.reserve(offset(), pos + 1, 0);
     } else {
       pos = offset;
       type &= MASK2;
       int j;
       do {
-        while(argv[pos++] != null);
+        while(argv[pos++ & mask] != null);
           for (j = 1; j < type; ++j) {
-            if (argv[pos++] != null) {
+            if (argv[pos++ & mask] != null) {
               break;
             }
           }
       } while (j < type);
-      pos -= type;
-      type |= (pos - offset) << SHIFT2;
-    }
+      pos -= type + offset;
+      type |= pos << SHIFT2;
+      varargs.reserve(offset(), pos + (type & MASK2), 0);
+    }
+    mask = varargs.mask();
+    offset = offset() & mask;
+    pos = (offset + pos) & mask;
+    positions = varargs.positions;
+    argv = varargs.argv;
     type <<= SHIFT;
     tpos |= type;
-    positions.setInt(offset + i, tpos);
-    argv[pos] = column.source();
-    varargs.columns[pos] = (ArgsColumn<?>) column;
+    positions.setInt((offset + i) & mask, tpos);
+    argv[pos] = source;
+    varargs.columns[pos] = column;
     ordinal += OMEGA.intValue();
-    column.attachOrder(this);
-    return this;
   }
 
   @Override
@@ -198,6 +240,7 @@ public class Matrix extends OrderInt implements Keys, Args {
       throw new IllegalStateException("extend not allowed after reordering");
     }
     final VarArgs varargs = varArgs();
+    varargs.reserve(offset(), this.target + 1, 0);
     final int mask = varargs.mask();
     final Object[] argv = varargs.argv;
     int target = offset() + this.target;
@@ -262,6 +305,7 @@ public class Matrix extends OrderInt implements Keys, Args {
           throw new IndexOutOfBoundsException();
         }
         pos += type >>> SHIFT2;
+        resolve(varargs, (offset + pos) & mask);
         return (Column<T>) varargs.get((offset + pos) & mask);
       }
     }
@@ -284,7 +328,17 @@ public class Matrix extends OrderInt implements Keys, Args {
   @Override
   public LongStream longStream(int pos) {
     final VarArgs varargs = varArgs();
-    return stream((long[]) varargs.argv[(hashCode() + pos) & varargs.mask()]);
+    final Object source = varargs.argv[(hashCode() + pos) & varargs.mask()];
+    if (source instanceof LongBuffer buffer) {
+      return IntStream.range(0, amount()).mapToLong(j -> buffer.get(rank(j)));
+    }
+    return stream((long[]) source);
+  }
+
+  @Override
+  public DoubleStream doubleStream(int pos) {
+    final double[] array = (double[]) doubleColumn(pos).source();
+    return IntStream.range(0, amount()).mapToDouble(j -> array[rank(j)]);
   }
 
   @Override
@@ -330,7 +384,7 @@ public class Matrix extends OrderInt implements Keys, Args {
       if (argv(i).getClass() == type.arrayType()) {
         i += pos;
         if (argv(i).getClass() == type.arrayType()) {
-          return (Stream<T>) stream(ORDINALS[i + pos]);
+          return (Stream<T>) stream(Ordinal.of(i + pos));
         }
         throw new NoSuchFieldException();
       }
@@ -340,14 +394,20 @@ public class Matrix extends OrderInt implements Keys, Args {
 
   @Override
   public LongStream longStream(Ordinal col) {
+    final Object source = argv(col.intValue());
+    if (source instanceof LongBuffer buffer) {
+      if (col.intValue() < size()) {
+        return IntStream.range(0, amount()).mapToLong(j -> buffer.get(rank(j)));
+      }
+      return IntStream.range(0, buffer.limit()).mapToLong(buffer::get);
+    }
     if (col.intValue() < size()) {
-      return stream((long[]) argv(col.intValue()));
+      return stream((long[]) source);
     }
-    long[] array = argv(col.intValue());
-    if (array == null) {
+    if (source == null) {
       throw new IndexOutOfBoundsException();
     }
-    return LongStream.of(array);
+    return LongStream.of((long[]) source);
   }
 
   @Override
@@ -372,13 +432,15 @@ public class Matrix extends OrderInt implements Keys, Args {
     if (repeat != 1) {
       throw new UnsupportedOperationException();
     }
-    final T[] target = (T[]) ORDINALS[amount].newInstance(defaults.getClass());
-    CURSOR.position(index, ordinal, offset, varargs);
+    final T[] target = (T[]) Ordinal.of(amount).newInstance(defaults.getClass());
+    resolve(varargs);
+    final Cursor cursor = varargs.cursor();
+    cursor.position(index, ordinal, offset, varargs);
     for (int j = 0; j < amount; ++j) {
-      if (!CURSOR.advance(1)) {
+      if (!cursor.advance(1)) {
         throw new AssertionError();
       }
-      target[j] = defaults.combine(CURSOR);
+      target[j] = defaults.combine(cursor);
     }
     final Column<T> result = A.all(target);
     result.attachOrder(this);
@@ -389,7 +451,7 @@ public class Matrix extends OrderInt implements Keys, Args {
   public Args parse(Class<?> type, int pos, final int repeat) {
     final int omega = OMEGA.intValue();
     final int amount = ordinal % omega;
-    final int skip = Math.max(0, amount - ordinals.length);
+    final int skip = Math.max(0, amount - length());
     int size = ordinal / omega;
     if (pos < 1 || pos > size) {
       throw new IndexOutOfBoundsException();
@@ -398,6 +460,7 @@ public class Matrix extends OrderInt implements Keys, Args {
       throw new IndexOutOfBoundsException("repeat must be from 1 to size");
     }
     final VarArgs varargs = varArgs();
+    varargs.reserve(offset(), size + repeat, 0);
     final Object[] argv = varargs.argv;
     final int mask = varargs.mask();
     int offset = (offset() + --pos) & mask;
@@ -408,13 +471,15 @@ public class Matrix extends OrderInt implements Keys, Args {
       if (type == long.class) {
         long[] target = new long[amount];
         for (int j = skip; j < amount; ++j) {
-          target[j] = Long.parseLong(source[rank(j - skip)].toString());
+          target[j] = Row.parseLong(source[rank(j - skip)]);
         }
         //varargs.set(index, groupBy(target));
         result = target;
       } else if (type == String.class) {
         String[] target = new String[amount];
-        System.arraycopy(source, 0, target, 0, amount);
+        for (int j = 0; j < amount; ++j) {
+          target[j] = source[j].toString();
+        }
         result = target;
       } else {
         throw new UnsupportedOperationException();
@@ -433,6 +498,7 @@ public class Matrix extends OrderInt implements Keys, Args {
     Function<T, K> accessor
   ) {
     final VarArgs varargs = varArgs();
+    varargs.reserve(offset(), 0, 1);
     final Object[] columns = varargs.columns;
     int offset = offset(); --offset; offset &= varargs.mask();
     if (columns[offset] != null) {
@@ -449,6 +515,7 @@ public class Matrix extends OrderInt implements Keys, Args {
     ToLongFunction<T> accessor
   ) {
     final VarArgs varargs = varArgs();
+    varargs.reserve(offset(), 0, 1);
     final Object[] columns = varargs.columns;
     int offset = offset(); --offset; offset &= varargs.mask();
     if (columns[offset] != null) {
@@ -459,6 +526,23 @@ public class Matrix extends OrderInt implements Keys, Args {
     return this;
   }
 
+  @Override
+  public <T extends Defaults<T>> Keys hashBy(
+    Ordinal tpos,
+    ToLongFunction<T> accessor
+  ) {
+    final VarArgs varargs = varArgs();
+    varargs.reserve(offset(), 0, 1);
+    final Object[] columns = varargs.columns;
+    int offset = offset(); --offset; offset &= varargs.mask();
+    if (columns[offset] != null) {
+      throw new ConcurrentModificationException("grouping already in progress");
+    }
+    final Range<Long> result = _hashBy(tpos, accessor);
+    columns[offset] = new ArgsColumn<>((byte) 37, result);
+    return this;
+  }
+
   @Override
   public <T extends Defaults<T>> Args primaryKey(
     Ordinal tpos,
@@ -477,6 +561,22 @@ public class Matrix extends OrderInt implements Keys, Args {
     ToLongFunction<T> accessor
   ) {
     fk = (ArgsLongSet) _groupBy(tpos, accessor);
+    hk = null;
+    return this;
+  }
+
+  @Override
+  public <T extends Defaults<T>> Args hashKey(
+    Ordinal tpos,
+    ToLongFunction<T> accessor
+  ) {
+    final Object[] source = (Object[]) column(tpos).source();
+    final long[] keys = new long[source.length];
+    for (int i = 0; i < keys.length; ++i) {
+      keys[i] = accessor.applyAsLong((T) source[i]);
+    }
+    hk = keys;
+    fk = null;
     return this;
   }
 
@@ -505,6 +605,78 @@ public class Matrix extends OrderInt implements Keys, Args {
     return extend(attribute(name, type));
   }
 
+  @Override
+  public Args save(Ordinal col, Path path) throws IOException {
+    ColumnFile.write(path, amount(), longStream(col.intValue()));
+    return this;
+  }
+
+  @Override
+  public Args savePk(Path path) throws IOException {
+    if (pk == null) {
+      throw new IllegalStateException("no primary key to save");
+    }
+    ColumnFile.write(path, pk);
+    return this;
+  }
+
+  @Override
+  public Args saveFk(Path path) throws IOException {
+    if (fk == null) {
+      throw new IllegalStateException("no foreign key to save");
+    }
+    ColumnFile.write(path, fk);
+    return this;
+  }
+
+  @Override
+  public Args attr(Path path) throws IOException {
+    return extend(map(path).column());
+  }
+
+  @Override
+  public Args pk(Path path) throws IOException {
+    final ColumnFile file = key(path);
+    if (file.range.size() != amount()) {
+      throw new IllegalArgumentException("column has duplicates");
+    }
+    extend(file.column());
+    pk = file.range;
+    return this;
+  }
+
+  @Override
+  public Args fk(Path path) throws IOException {
+    final ColumnFile file = key(path);
+    extend(file.column());
+    fk = file.range;
+    return this;
+  }
+
+  @Override
+  public Args snapshot(Path path) throws IOException {
+    Snapshot.write(this, path);
+    return this;
+  }
+
+  private ColumnFile map(Path path) throws IOException {
+    final ColumnFile file = ColumnFile.map(path);
+    if (file.values.limit() != amount()) {
+      throw new IllegalArgumentException(
+        "column file has " + file.values.limit() + " rows; expected=" + amount()
+      );
+    }
+    return file;
+  }
+
+  private ColumnFile key(Path path) throws IOException {
+    final ColumnFile file = map(path);
+    if (file.range == null) {
+      throw new IllegalArgumentException("column file holds no key: " + path);
+    }
+    return file;
+  }
+
   private ArgsColumn<?> attribute(CharSequence name, Ordinal type)
     throws NoSuchFieldException {
     name = name.toString().intern();
@@ -522,13 +694,32 @@ public class Matrix extends OrderInt implements Keys, Args {
           case 37:
             long[] longs = new long[length];
             for (int i = 0; i < length; ++i) {
-              longs[i] = Long.parseLong(column[offset++].toString());
+              longs[i] = Row.parseLong(column[offset++]);
             }
             return (ArgsColumn<?>) AL.any(longs);
+          case 34:
+            int[] ints = new int[length];
+            for (int i = 0; i < length; ++i) {
+              final CharSequence value = column[offset++];
+              ints[i] = Integer.parseInt(value, 0, value.length(), 10);
+            }
+            return (ArgsColumn<?>) AI.any(ints);
+          case 29:
+            short[] shorts = new short[length];
+            for (int i = 0; i < length; ++i) {
+              shorts[i] = Short.parseShort(column[offset++].toString());
+            }
+            return (ArgsColumn<?>) AD.any(shorts);
+          case 27:
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; ++i) {
+              bytes[i] = Byte.parseByte(column[offset++].toString());
+            }
+            return (ArgsColumn<?>) AB.any(bytes);
           case 18:
             String[] strings = new String[length];
             for (int i = 0; i < length; ++i) {
-              strings[i] = (String) column[offset++];
+              strings[i] = column[offset++].toString();
             }
             return (ArgsColumn<?>) S.all(strings);
           case 20:
@@ -552,15 +743,14 @@ public class Matrix extends OrderInt implements Keys, Args {
   protected <T extends Comparable<T>, K extends Comparable<K>> Range<
     T
   > _groupBy(Ordinal tpos, Function<T, K> accessor) {
-    final Accessor.OfObject accessObject = Accessor.OfObject.INSTANCE;
-    reorder(comparator(tpos, accessor));
-    accessObject.accessor(accessor);
     final Object[] source = argv(tpos.intValue());
-    final Index indices = groupBy(accessObject, source);
-    final T[] target = (T[]) keys(accessObject, source, indices);
-    final Range<T> result = Range.of(indices, target);
-    accessObject.destroy();
-    return result;
+    final Comparable<?>[] keys = new Comparable[source.length];
+    for (int i = 0; i < keys.length; ++i) {
+      keys[i] = accessor.apply((T) source[i]);
+    }
+    reorder(comparator(keys));
+    final Index indices = groupBy(keys);
+    return Range.of(indices, (T[]) keys(keys, indices));
   }
 
   private byte tposOfType(Class<?> type) {
@@ -576,31 +766,81 @@ public class Matrix extends OrderInt implements Keys, Args {
   protected <T> Range<Long> _groupBy(Ordinal tpos, ToLongFunction<T> accessor) {
     final Column<T> column = column(tpos);
     final Object[] source = (Object[]) column.source();
-    final Accessor.OfLong accessLong = Accessor.OfLong.INSTANCE;
-    final Comparator<Object> comparator = (Comparator<
-        Object
-      >) Comparator.comparingLong(accessor);
-    reorder((lhs, rhs) ->
-      comparator.compare(source[lhs.intValue()], source[rhs.intValue()])
-    );
-    accessLong.accessor(accessor);
-    final Index indices = groupBy(accessLong, source);
-    final Range<Long> result = Range.ofLongs(
-      indices,
-      (long[]) keys(accessLong, source, indices)
-    );
-    accessLong.destroy();
-    return result;
+    final long[] keys = new long[source.length];
+    for (int i = 0; i < keys.length; ++i) {
+      keys[i] = accessor.applyAsLong((T) source[i]);
+    }
+    reorder(keys);
+    final Index indices = groupBy(keys);
+    return Range.ofLongs(indices, (long[]) keys(keys, indices));
+  }
+
+  protected <T> Range<Long> _hashBy(Ordinal tpos, ToLongFunction<T> accessor) {
+    final Object[] source = (Object[]) column(tpos).source();
+    final int amount = amount(), limit = Math.max(amount >> 2, HASH_LIMIT);
+    final int[] groups = new int[source.length];
+    final long[] distinct = new long[Math.min(amount, limit) + 1];
+    final LongHashTable table = new LongHashTable(HASH_LIMIT);
+    for (int k = 0; k < amount; ++k) {
+      final int i = rank(k);
+      final long key = accessor.applyAsLong((T) source[i]);
+      int group = table.putIfAbsent(key, table.size());
+      if (group == LongHashTable.EMPTY) {
+        if ((group = table.size() - 1) == limit) {
+          // too many distinct keys for hashing to pay off
+          return _groupBy(tpos, accessor);
+        }
+        distinct[group] = key;
+      }
+      groups[i] = group;
+    }
+    final int count = table.size();
+    final int[] ranks = new int[count];
+    for (int j = 0; j < count; ++j) {
+      ranks[j] = j;
+    }
+    RadixSort.sort(distinct, ranks);
+    final int[] positions = new int[count], sizes = new int[count];
+    final long[] keys = new long[count];
+    for (int j = 0; j < count; ++j) {
+      positions[ranks[j]] = j;
+      keys[j] = distinct[ranks[j]];
+    }
+    for (int k = 0; k < amount; ++k) {
+      final int i = rank(k);
+      ++sizes[groups[i] = positions[groups[i]]];
+    }
+    final Index indices = Index.monotone(count, amount);
+    for (int j = 0, sum = 0; j < count; ++j) {
+      indices.setInt(j, sum += sizes[j]);
+    }
+    this.groups = groups;
+    return Range.ofLongs(indices, keys);
+  }
+
+  /**
+   * Brings the rows into group order after hashBy, for the operations that
+   * need each group to be a contiguous range of ranks.
+   */
+  private void regroup() {
+    final int[] groups = this.groups;
+    if (groups != null) {
+      final long[] keys = new long[groups.length];
+      for (int i = 0; i < keys.length; ++i) {
+        keys[i] = groups[i];
+      }
+      this.groups = null;
+      reorder(keys);
+    }
   }
 
-  private Index groupBy(Accessor accessor, final Object source) {
+  private Index groupBy(final Object keys) {
     final int amount = amount();
-    final int count = count(amount, source, accessor);
-    final Index indices = Index.of(count, amount);
+    final int count = count(0, amount, keys);
+    final Index indices = Index.monotone(count, amount);
     int k = 0;
-    accessor.setValueAt(rank(0), source);
     for (int i = 1; i < amount; ++i) {
-      if (accessor.compareAt(rank(i), source) < 0) {
+      if (compare(keys, rank(i - 1), rank(i)) < 0) {
         indices.setInt(k++, i);
       }
     }
@@ -608,27 +848,34 @@ public class Matrix extends OrderInt implements Keys, Args {
     return indices;
   }
 
-  private Object keys(
-    Accessor accessor,
-    final Object source,
-    final Index indices
-  ) {
+  private Object keys(final Object keys, final Index indices) {
     final int count = indices.size();
-    accessor.setValueAt(rank(0), source);
-    final Object keys = accessor.alloc(ORDINALS[count]);
-    accessor.assign(0, keys);
-    for (int i = 0; ++i < count; ++i) {
-      accessor.setValueAt(rank(indices.getInt(--i)), source);
-      accessor.assign(i + 1, keys);
+    if (keys instanceof long[] longs) {
+      final long[] result = new long[count];
+      result[0] = longs[rank(0)];
+      for (int i = 1; i < count; ++i) {
+        result[i] = longs[rank(indices.getInt(i - 1))];
+      }
+      return result;
+    }
+    final Object[] objects = (Object[]) keys;
+    final Object[] result = Ordinal.of(count).newInstance(
+      objects[rank(0)].getClass()
+    );
+    result[0] = objects[rank(0)];
+    for (int i = 1; i < count; ++i) {
+      result[i] = objects[rank(indices.getInt(i - 1))];
     }
-    return keys;
+    return result;
   }
 
   @Override
   public void clear() {
     ordinal = 0;
-    ordinals = ORDINALS;
+    ordinals = IDENTITY;
+    groups = null;
     pk = null;
+    hk = null;
     fk = null;
     source = 0;
     target = 0;
@@ -657,9 +904,10 @@ public class Matrix extends OrderInt implements Keys, Args {
   public <T> T getValue(int index) {
     final int omega = OMEGA.intValue();
     final VarArgs varargs = varArgs();
+    resolve(varargs, (offset() & varargs.mask()) + (index / omega));
     final Column<T> result = (Column<T>) varargs.get((offset() & varargs.mask()) + (index / omega));
     if (result == null) {
-      return OMEGA.getValue(varargs.argv, offset() & varargs.mask(), index, ordinals);
+      return OMEGA.getValue(varargs.argv, offset() & varargs.mask(), rank(index / omega) * omega + index % omega, ORDINALS);
     }
     return result.get(index % omega);
   }
@@ -668,19 +916,29 @@ public class Matrix extends OrderInt implements Keys, Args {
   public long getLongValue(int index) {
     final int omega = OMEGA.intValue();
     final VarArgs varargs = varArgs();
+    resolve(varargs, (offset() & varargs.mask()) + (index / omega));
     final Column<Long> result = (Column<Long>) varargs.get((offset() & varargs.mask()) + (index / omega));
     if (result == null) {
-      return OMEGA.getLongValue(varargs.argv, offset() & varargs.mask(), index, ordinals);
+      return OMEGA.getLongValue(varargs.argv, offset() & varargs.mask(), rank(index / omega) * omega + index % omega, ORDINALS);
     }
     return result.getLong(index % omega);
   }
 
   @Override
   public Comparator<Ordinal> comparator(Ordinal col) {
+    switch (argv()[mask(hashCode() + col.intValue())]) {
+      case OrdinalList.DictionaryList<?> list:
+        return (KeyComparator) (lhs, rhs) ->
+          Integer.compare(list.getInt(lhs), list.getInt(rhs));
+      case LongBuffer buffer:
+        return (KeyComparator) (lhs, rhs) ->
+          Long.compare(buffer.get(lhs), buffer.get(rhs));
+      default:
+        break;
+    }
     switch (argv(col.intValue())) {
       case long[] longs:
-        return (lhs, rhs) ->
-          Long.compare(longs[lhs.intValue()], longs[rhs.intValue()]);
+        return (KeyComparator) (lhs, rhs) -> Long.compare(longs[lhs], longs[rhs]);
       default:
         return Comparator.comparing(
           Fn.of(col::index).intAndThen(this::getValue)
@@ -694,10 +952,11 @@ public class Matrix extends OrderInt implements Keys, Args {
     Function<T, K> accessor
   ) {
     final T[] source = argv(ordinal.intValue());
-    return (lhs, rhs) ->
-      accessor
-        .apply(source[lhs.intValue()])
-        .compareTo(accessor.apply(source[rhs.intValue()]));
+    final Comparable<?>[] keys = new Comparable[source.length];
+    for (int i = 0; i < keys.length; ++i) {
+      keys[i] = accessor.apply(source[i]);
+    }
+    return comparator(keys);
   }
 
   @Override
@@ -706,66 +965,93 @@ public class Matrix extends OrderInt implements Keys, Args {
     ToLongFunction<T> accessor
   ) {
     final T[] source = argv(ordinal.intValue());
-    return (lhs, rhs) ->
-      Long.compare(
-        accessor.applyAsLong(source[lhs.intValue()]),
-        accessor.applyAsLong(source[rhs.intValue()])
-      );
+    final long[] keys = new long[source.length];
+    for (int i = 0; i < keys.length; ++i) {
+      keys[i] = accessor.applyAsLong(source[i]);
+    }
+    return comparator(keys);
   }
 
   @Override
   public Ordinal ordinalAt(final Ordinal col, Object value) {
+    final Object source = argv(col.intValue());
+    if (source instanceof LongBuffer buffer) {
+      final long key = ((Long) value).longValue();
+      if (isOrdinal()) {
+        final int index = binarySearch(buffer, key);
+        return index < 0 ? OMEGA : Ordinal.of(index);
+      }
+      return ordinalAt(value, (row, ignored) ->
+        Long.compare(buffer.get(((OrdinalInt) row).ordinal), key)
+      );
+    }
     if (isOrdinal()) {
       if (value.getClass() == Long.class) {
         final int index = Arrays.binarySearch(
-          (long[]) argv(col.intValue()),
+          (long[]) source,
           ((Long) value).longValue()
         );
-        return index < 0 ? OMEGA : ORDINALS[index];
+        return index < 0 ? OMEGA : Ordinal.of(index);
       }
-      final int index = Arrays.binarySearch(
-        (Object[]) argv(col.intValue()),
-        value
-      );
-      return index < 0 ? OMEGA : ORDINALS[index];
+      final int index = Arrays.binarySearch((Object[]) source, value);
+      return index < 0 ? OMEGA : Ordinal.of(index);
     }
     return ordinalAt(value, (row, key) ->
-      ((Comparable<Object>) Array.get(
-          argv(col.intValue()),
-          ((OrdinalInt) row).ordinal
-        )).compareTo(key)
+      ((Comparable<Object>) Array.get(source, ((OrdinalInt) row).ordinal))
+        .compareTo(key)
     );
   }
 
+  /**
+   * Like {@link Arrays#binarySearch(long[], long)}, on an off-heap column.
+   */
+  private static int binarySearch(LongBuffer buffer, long key) {
+    int low = 0, high = buffer.limit() - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final long value = buffer.get(mid);
+      if (value < key) {
+        low = mid + 1;
+      } else if (value > key) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
   // from Keys interface
 
   @Override
   public void thenBy(Ordinal col, Accessor accessor) {
-    final Object[] source = argv(col.intValue());
+    regroup();
+    final Object keys = accessor.keys(argv(col.intValue()));
     final Index indices = indices();
-    final int count = count(indices(), source, accessor);
+    final int count = count(indices, keys);
     final int length = indices.size();
     final Ordinal[] subindices = new Ordinal[count];
     int k = 0;
     while (argv(--k) != null);
+    varArgs().reserve(offset(), 0, -k);
     argv(k, subindices);
     k = 0;
     int fromIndex = 0;
     for (int i = 0; i < length; ++i) {
       final int toIndex = indices.getInt(i);
-      accessor.setValueAt(rank(fromIndex++), source);
-      for (int j = fromIndex; j < toIndex; ++j) {
-        if (accessor.compareAt(rank(j), source) < 0) {
-          subindices[k++] = ORDINALS[j];
+      for (int j = fromIndex + 1; j < toIndex; ++j) {
+        if (compare(keys, rank(j - 1), rank(j)) < 0) {
+          subindices[k++] = Ordinal.of(j);
         }
       }
-      subindices[k++] = ORDINALS[toIndex];
+      subindices[k++] = Ordinal.of(toIndex);
       fromIndex = toIndex;
     }
   }
 
   @Override
   public <T extends Comparable<T>> Column<OrdinalList<T>> collect(Ordinal col) {
+    regroup();
     final ArgsColumn<T> source = (ArgsColumn<T>) dto(col);
     final Index indices = source.indices;
     final int amount = amount();
@@ -802,45 +1088,102 @@ public class Matrix extends OrderInt implements Keys, Args {
     ToLongFunction<T> accessor,
     LongBinaryOperator reducer
   ) {
+    final Index indices = groupIndices();
+    collect(new ArgsColumn<>(
+      AL.byteValue(),
+      groups == null
+        ? SegmentedReduce.reduce(ofLong(col, accessor), indices, reducer)
+        : target(col, accessor, reducer, indices.size())
+    ));
+    return this;
+  }
+
+  @Override
+  public <T> Args collectDouble(
+    Ordinal col,
+    ToDoubleFunction<T> accessor,
+    DoubleBinaryOperator reducer
+  ) {
+    collect(new ArgsColumn<>(
+      AN.byteValue(),
+      target(col, accessor, reducer, groupIndices())
+    ));
+    return this;
+  }
+
+  @Override
+  public <T> Args collect(Ordinal col, List<Aggregate<T>> aggregates) {
+    for (final long[] result : target(col, aggregates, groupIndices())) {
+      collect(new ArgsColumn<>(AL.byteValue(), result));
+    }
+    return this;
+  }
+
+  private Index groupIndices() {
+    final VarArgs varargs = varArgs();
+    return varargs.columns[(offset() - 1) & varargs.mask()].range().indices;
+  }
+
+  /**
+   * Stores a collected column in the first free slot before the grouping.
+   */
+  private void collect(ArgsColumn<?> column) {
     final VarArgs varargs = varArgs();
     final int mask = varargs.mask();
     final Object[] columns = varargs.columns;
-    int offset = offset();
-    final Index indices = ((ArgsColumn<?>) columns[--offset & mask]).range().indices;
+    int offset = offset() - 1;
     while (columns[--offset & mask] != null);
-    columns[offset & mask] = new ArgsColumn<>(AL.byteValue(), (long[]) target(ofLong(col, accessor), reducer, indices));
-    return this;
+    varargs.reserve(offset(), 0, offset() - offset);
+    varargs.columns[offset & varargs.mask()] = column;
   }
 
   @Override
   public Args joinOne(Args rhs) {
+    final ArgsRefs refs = refs(rhs);
+    extend(refs.kind.all(refs.materialize()));
+    return this;
+  }
+
+  @Override
+  public Args joinOneRef(Args rhs) {
+    final ArgsRefs refs = refs(rhs);
+    extend(refs.kind, refs, null);
+    return this;
+  }
+
+  /**
+   * Matches every row with the primary key of the right-hand side, and refers
+   * to the matched rows of its join column; when that column is a late join
+   * column itself, the references are composed instead of materialized.
+   */
+  private ArgsRefs refs(Args rhs) {
     final Matrix matrix = (Matrix) rhs;
     if (matrix.pk == null) {
       throw new IllegalArgumentException(
         "missing primary key on right-hand side"
       );
     }
-    if (fk == null) {
+    if (fk == null && hk == null) {
       throw new IllegalArgumentException(
         "missing foreign key on left-hand side"
       );
     }
     final VarArgs lhsArgs = varArgs(), rhsArgs = matrix.varArgs();
-    final int mask = lhsArgs.mask();
-    if (rhsArgs.mask() != mask) {
-      throw new AssertionError();
+    final int offset = matrix.offset() & rhsArgs.mask();
+    final Object source = rhsArgs.argv[offset + source(rhsArgs, offset)];
+    final ArgsRefs refs = source instanceof ArgsRefs ? (ArgsRefs) source : null;
+    final Object[] values = refs == null ? (Object[]) source : refs.values;
+    final int[] rows = new int[rows()];
+    if (fk == null) {
+      injection(rows, this, matrix, hk, matrix.pk);
+    } else {
+      injection(rows, this, matrix, fk, matrix.pk);
     }
-    final int offset = matrix.offset() & mask;
-    final Comparable[] source = (Comparable[]) rhsArgs.argv[offset + source(rhsArgs, offset)];
-    final Comparable[] result = injection(
-      source,
-      this,
-      matrix,
-      fk,
-      matrix.pk
-    );
-    extend(target(lhsArgs, offset()).all(result));
-    return this;
+    final Index result = Index.of(rows.length, values.length - 1);
+    for (int i = 0; i < rows.length; ++i) {
+      result.setInt(i, refs == null ? rows[i] : refs.getInt(rows[i]));
+    }
+    return new ArgsRefs(target(lhsArgs, offset()), values, result);
   }
 
   private int source(VarArgs varargs, int offset) {
@@ -858,7 +1201,7 @@ public class Matrix extends OrderInt implements Keys, Args {
     for (int i = 0; i < length; ++i) {
       int pos = positions.getInt(i);
       if ((pos & MASK) == TPOS_DTO) {
-        return ORDINALS[(pos >> SHIFT) & MASK2];
+        return Ordinal.of((pos >> SHIFT) & MASK2);
       }
     }
     return A;
@@ -886,7 +1229,7 @@ public class Matrix extends OrderInt implements Keys, Args {
       );
     }
     final Matrix matrix = (Matrix) rhs;
-    if (matrix.fk == null) {
+    if (matrix.fk == null && matrix.hk == null) {
       throw new IllegalArgumentException(
         "missing foreign key on right-hand side"
       );
@@ -895,47 +1238,29 @@ public class Matrix extends OrderInt implements Keys, Args {
     if (pk.indices.size() != amount) {
       throw new AssertionError();
     }
-    final VarArgs lhsArgs = varArgs(), rhsArgs = matrix.varArgs();
-    final int mask = lhsArgs.mask();
-    if (rhsArgs.mask() != mask) {
-      throw new AssertionError();
-    }
-    final int offset = matrix.offset() & mask;
-    final Column<?> column = rhsArgs.get(offset + source(rhsArgs, offset));
-    final Object[] source = (Object[]) column.source();
-    int size = source.length;
-    final Object[] result = surjection(
-      source,
-      this,
-      matrix,
-      pk,
-      matrix.fk
-    );
-    final Index indices = CONSTANTS.index();
-    int k = 0;
-    for (int i = 0; i < amount; ++i) {
-      if (k == (k = indices.getInt(i))) {
-        ++size;
-      }
-    }
-    if (size != amount) {
-      for (int i = 0; i < amount; ++i) {
-        indices.setInt(i, i);
-      }
-      throw new UnsupportedOperationException();
-    }
-    final Comparable[] target = (Comparable[]) Array.newInstance(source.getClass().getComponentType(), size);
-    k = 0;
-    for (int i = 0; i < amount; ++i) {
-      if (k == (size = indices.getInt(i))) {
-        target[rank(i)] = null;
-      } else {
-        target[rank(i)] = (Comparable) source[matrix.rank(k)];
-        k = size;
-      }
-      indices.setInt(i, i);
-    }
-    extend(column.getType().all(target));
+    final VarArgs rhsArgs = matrix.varArgs();
+    final int offset = matrix.offset() & rhsArgs.mask();
+    final int slot = offset + source(rhsArgs, offset);
+    final Ordinal kind;
+    final Object[] source;
+    final Index via;
+    if (rhsArgs.argv[slot] instanceof ArgsRefs refs) {
+      kind = refs.kind;
+      source = refs.values;
+      via = refs.rows;
+    } else {
+      final Column<?> column = rhsArgs.get(slot);
+      kind = column.getType();
+      source = (Object[]) column.source();
+      via = null;
+    }
+    final int[] offsets = new int[amount + 1];
+    final Object[] values = matrix.fk == null
+      ? surjection(offsets, source, via, this, matrix, pk, matrix.hk)
+      : surjection(offsets, source, via, this, matrix, pk, matrix.fk);
+    // even if no row matches more than once, so that the shape of the column
+    // does not depend on the data
+    extend(kind, ArgsMany.of(this, values, offsets), null);
     return this;
   }
 
@@ -951,12 +1276,15 @@ public class Matrix extends OrderInt implements Keys, Args {
     ArgsColumn<?> column = (ArgsColumn<?>) columns[--offset & mask];
     final Range<?> range = column.range();
     range.indices = null;
+    groups = null;
     Matrix result;
     try {
       result = (Matrix) clone();
     } catch(CloneNotSupportedException e) {
       throw new AssertionError();
     }
+    // the keys of the range are distinct and sorted already
+    result.ordinals = IDENTITY;
     result.ordinal = range.size();
     result.extend(column);
     while ((column = (ArgsColumn<?>) columns[--offset & mask]) != null) {
@@ -980,7 +1308,7 @@ public class Matrix extends OrderInt implements Keys, Args {
       throw new IllegalStateException("no column to split");
     }
     final int amount = amount() + 1;
-    final Object[] argv = argv();
+    Object[] argv = argv();
     int size = 0;
     for (int j = 0; j < amount; ++j) {
       Iterator<String> iterator = splitter
@@ -991,17 +1319,19 @@ public class Matrix extends OrderInt implements Keys, Args {
         String item = iterator.next();
         if (i > size) {
           ++size;
+          varargs.reserve(offset(), i + 1, 0);
+          argv = varargs.argv;
           argv[i] = new CharSequence[amount];
         }
         ((CharSequence[]) argv[i++])[j] = j == 0 ? (item + ":").intern() : item;
       }
     }
-    positions.setInt(offset, ++size);
+    varargs.positions.setInt(offset() & varargs.mask(), ++size);
     return this;
   }
 
-  private static Comparable[] injection(
-    Comparable[] source,
+  private static void injection(
+    int[] target,
     Order lhsOrder,
     Order rhsOrder,
     ArgsLongSet lhs,
@@ -1010,16 +1340,13 @@ public class Matrix extends OrderInt implements Keys, Args {
     final Index indices = lhs.indices;
     final int l = indices.size(), n = rhsOrder.amount();
     int j = 0, k = -1;
-    Comparable[] target = (Comparable[]) lhsOrder
-      .ordinal()
-      .newInstance(source.getClass().getComponentType());
     for (int i = 0; i < l; ++i) {
       long value = lhs.getLong(i);
       while (++k < n && rhs.getLong(k) < value);
       final int limit = indices.getInt(i);
       if (k < n && rhs.getLong(k) == value) {
         while (j < limit) {
-          target[lhsOrder.rank(j++)] = source[rhsOrder.rank(k)];
+          target[lhsOrder.rank(j++)] = rhsOrder.rank(k);
         }
       } else {
         while (j < limit) {
@@ -1029,11 +1356,50 @@ public class Matrix extends OrderInt implements Keys, Args {
         }
       }
     }
-    return target;
   }
 
+  /**
+   * Hash variant of injection: the primary keys of the right-hand side are
+   * matched with the key of every left-hand row in place, see {@link HashJoin}.
+   */
+  private static void injection(
+    int[] target,
+    Order lhsOrder,
+    Order rhsOrder,
+    long[] lhs,
+    ArgsLongSet rhs
+  ) {
+    final int size = rhs.size(), amount = lhsOrder.amount();
+    final int[] rows = new int[size];
+    for (int k = 0; k < size; ++k) {
+      rows[k] = rhsOrder.rank(k);
+    }
+    final long[] keys = new long[amount];
+    for (int j = 0; j < amount; ++j) {
+      keys[j] = lhs[lhsOrder.rank(j)];
+    }
+    final int[] matches = HashJoin.match(rhs.array, rows, keys);
+    for (int j = 0; j < amount; ++j) {
+      if (matches[j] == LongHashTable.EMPTY) {
+        throw new IllegalArgumentException(
+          "no primary key found matching to foreign key: " + keys[j]
+        );
+      }
+      target[lhsOrder.rank(j)] = matches[j];
+    }
+  }
+
+  /**
+   * Collects, for every left-hand row in order, the right-hand values whose
+   * foreign key matches its primary key, by merging both sorted key sets.
+   *
+   * @param offsets - receives the offsets of the values of every left-hand row
+   * @return the values of all left-hand rows, in order
+   */
   private static Object[] surjection(
+    final int[] offsets,
     Object[] source,
+    Index via,
     Order lhsOrder,
     Order rhsOrder,
     ArgsLongSet lhs,
@@ -1041,39 +1407,87 @@ public class Matrix extends OrderInt implements Keys, Args {
   ) {
     final Index indices = lhs.indices, rhsIndices = rhs.indices;
     final int l = indices.size(), n = rhsIndices.size();
-    int j = 0, k = 0, m = -1;
-    Class<?> componentType = source.getClass();
-    if (componentType == CharSequence[].class) {
-      componentType = String[].class;
-    }
-    final Object[] target = (Object[]) lhsOrder
-      .ordinal()
-      .newInstance(componentType);
-    componentType = componentType.getComponentType();
-    final Object empty = Array.newInstance(componentType, 0);
-    final Index result = CONSTANTS.index();
+    final Object[] values = values(source, rhsOrder.amount());
+    int j = 0, k = 0, m = 0, count = 0;
     for (int i = 0; i < l; ++i) {
-      long value = lhs.getLong(i);
-      while (++m < n && rhs.getLong(m) < value);
+      final long value = lhs.getLong(i);
+      while (m < n && rhs.getLong(m) < value) {
+        k = rhsIndices.getInt(m++);
+      }
       final int limit = indices.getInt(i);
       if (m < n && rhs.getLong(m) == value) {
-        final int length = rhsIndices.getInt(m) - k;
+        final int toIndex = rhsIndices.getInt(m);
         while (j < limit) {
-          Object[] values = (Object[]) Array.newInstance(componentType, length);
-          for (int index = 0; index < length; ++index) {
-            values[index] = source[rhsOrder.rank(k++)];
+          for (int r = k; r < toIndex; ++r) {
+            values[count++] = source[row(via, rhsOrder.rank(r))];
           }
-          target[lhsOrder.rank(j++)] = values;
+          offsets[++j] = count;
         }
       } else {
-        --m;
         while (j < limit) {
-          target[lhsOrder.rank(j++)] = empty;
+          offsets[++j] = count;
         }
       }
-      result.setInt(i, k);
     }
-    return target;
+    return Arrays.copyOf(values, count);
+  }
+
+  /**
+   * Hash variant of surjection: the primary keys of the left-hand side are
+   * matched with the key of every right-hand row in place, see {@link HashJoin}.
+   * The values of a left-hand row keep the order of the right-hand side.
+   */
+  private static Object[] surjection(
+    final int[] offsets,
+    Object[] source,
+    Index via,
+    Order lhsOrder,
+    Order rhsOrder,
+    ArgsLongSet lhs,
+    long[] rhs
+  ) {
+    final int amount = lhsOrder.amount(), n = rhsOrder.amount();
+    final int[] positions = new int[amount], rows = new int[n];
+    for (int i = 0; i < amount; ++i) {
+      positions[i] = i;
+    }
+    final long[] keys = new long[n];
+    for (int k = 0; k < n; ++k) {
+      keys[k] = rhs[rows[k] = rhsOrder.rank(k)];
+    }
+    final int[] matches = HashJoin.match(lhs.array, positions, keys);
+    for (int k = 0; k < n; ++k) {
+      if (matches[k] != LongHashTable.EMPTY) {
+        ++offsets[matches[k] + 1];
+      }
+    }
+    for (int i = 0; i < amount; ++i) {
+      offsets[i + 1] += offsets[i];
+    }
+    final int[] cursor = Arrays.copyOf(offsets, amount);
+    final Object[] values = values(source, offsets[amount]);
+    for (int k = 0; k < n; ++k) {
+      if (matches[k] != LongHashTable.EMPTY) {
+        values[cursor[matches[k]]++] = source[row(via, rows[k])];
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Maps a physical row of the right-hand side to its slot in the source, which
+   * differs only when the join column is a late join column.
+   */
+  private static int row(Index via, int row) {
+    return via == null ? row : via.getInt(row);
+  }
+
+  private static Object[] values(Object[] source, int length) {
+    Class<?> componentType = source.getClass().getComponentType();
+    if (componentType == CharSequence.class) {
+      componentType = String.class;
+    }
+    return (Object[]) Array.newInstance(componentType, length);
   }
 
   private Object[] argv() {
@@ -1089,27 +1503,77 @@ public class Matrix extends OrderInt implements Keys, Args {
   }
 
   private <T> T argv(int index) {
-    return (T) argv()[mask(hashCode() + index)];
+    return (T) decode(varArgs(), mask(hashCode() + index));
+  }
+
+  /**
+   * Materializes the late join column in the given slot, if any, see
+   * {@link #joinOneRef(Args)}.
+   *
+   * @return the array in the slot
+   */
+  private Object resolve(VarArgs varargs, int slot) {
+    if (varargs.argv[slot] instanceof ArgsRefs refs) {
+      final Column<?> column = refs.kind.all(refs.materialize());
+      column.attachOrder(this);
+      varargs.argv[slot] = column.source();
+      varargs.columns[slot] = (ArgsColumn<?>) column;
+    }
+    return varargs.argv[slot];
+  }
+
+  /**
+   * Decodes the dictionary-encoded column in the given slot, if any, into a
+   * temporary array for the operations that read the values as an array; the
+   * slot keeps the codes, see {@link Ordinal#dictionary(Comparable...)}.
+   *
+   * @return the array in the slot, or the decoded values
+   */
+  private Object decode(VarArgs varargs, int slot) {
+    final Object result = resolve(varargs, slot);
+    if (result instanceof OrdinalList.DictionaryList<?> list) {
+      return list.decode();
+    }
+    return result;
+  }
+
+  /**
+   * Materializes all late join columns, before the rows are read as a whole;
+   * the cursor reads dictionary-encoded columns through their codes.
+   */
+  private void resolve(VarArgs varargs) {
+    final int mask = varargs.mask();
+    for (int i = offset(); varargs.argv[i & mask] != null; ++i) {
+      resolve(varargs, i & mask);
+    }
   }
 
   private void argv(int index, Object value) {
     argv()[mask(hashCode() + index)] = value;
   }
 
-  private int count(final int amount, Object container, Accessor accessor) {
-    accessor.setValueAt(rank(0), container);
-    return count(0, amount, container, accessor);
+  private static Comparator<Ordinal> comparator(final Object keys) {
+    switch (keys) {
+      case long[] longs:
+        return (KeyComparator) (lhs, rhs) -> Long.compare(longs[lhs], longs[rhs]);
+      default:
+        final Comparable<Object>[] objects = (Comparable<Object>[]) keys;
+        return (KeyComparator) (lhs, rhs) -> objects[lhs].compareTo(objects[rhs]);
+    }
   }
 
-  private int count(
-    final int offset,
-    final int amount,
-    Object container,
-    Accessor accessor
-  ) {
+  private static int compare(final Object keys, final int lhs, final int rhs) {
+    if (keys instanceof long[] longs) {
+      return Long.compare(longs[lhs], longs[rhs]);
+    }
+    final Comparable<Object>[] objects = (Comparable<Object>[]) keys;
+    return objects[lhs].compareTo(objects[rhs]);
+  }
+
+  private int count(final int offset, final int amount, final Object keys) {
     int count = 0;
-    for (int i = offset; i < amount; ++i) {
-      final int result = accessor.compareAt(rank(i), container);
+    for (int i = offset + 1; i < amount; ++i) {
+      final int result = compare(keys, rank(i - 1), rank(i));
       if (result != 0) {
         if (result > 0) {
           throw new IllegalStateException("column not sorted");
@@ -1120,16 +1584,16 @@ public class Matrix extends OrderInt implements Keys, Args {
     return ++count;
   }
 
-  private int count(final Index indices, Object container, Accessor accessor) {
+  private int count(final Index indices, final Object keys) {
+    final Comparator<Ordinal> comparator = comparator(keys);
     final int length = indices.size();
     int offset = indices.getInt(0);
-    order().reorder(accessor.comparator(container), 0, offset);
-    int count = count(offset, container, accessor);
+    order().reorder(comparator, 0, offset);
+    int count = count(0, offset, keys);
     for (int i = 1; i < length; ++i) {
       int toIndex = indices.getInt(i);
-      order().reorder(accessor.comparator(container), offset, toIndex);
-      accessor.setValueAt(rank(offset), container);
-      count += count(++offset, offset = toIndex, container, accessor);
+      order().reorder(comparator, offset, toIndex);
+      count += count(offset, offset = toIndex, keys);
     }
     return count;
   }
@@ -1141,40 +1605,102 @@ public class Matrix extends OrderInt implements Keys, Args {
     return ((Range<?>) varargs.argv[--offset & mask]).indices;
   }
 
-  private <T> Spliterator.OfLong ofLong(
-    Ordinal col,
-    ToLongFunction<T> accessor
-  ) {
+  /**
+   * Extracts the values to reduce in sort order, so the values of every group
+   * are contiguous.
+   */
+  private <T> long[] ofLong(Ordinal col, ToLongFunction<T> accessor) {
     final Stream<T> stream = stream(col);
-    return stream.mapToLong(accessor).spliterator();
+    return stream.mapToLong(accessor).toArray();
   }
 
-  private Object target(
-    Spliterator.OfLong spliterator,
+  private <T> long[] target(
+    Ordinal col,
+    ToLongFunction<T> accessor,
     LongBinaryOperator reducer,
-    Index indices
+    int length
   ) {
-    final int length = indices.size();
-    long[] target = new long[length];
+    final int[] groups = this.groups;
+    final T[] source = argv(col.intValue());
+    final long[] target = new long[length];
+    final int amount = amount();
+    for (int k = 0; k < amount; ++k) {
+      final int i = rank(k), group = groups[i];
+      target[group] = reducer.applyAsLong(
+        target[group],
+        accessor.applyAsLong(source[i])
+      );
+    }
+    return target;
+  }
 
-    int j = 0;
-    for (int i = 0; i < length; ++i) {
-      while (j++ < indices.getInt(i)) {
-        spliterator.tryAdvance(consumer(target, i, reducer));
+  /**
+   * Reduces the double values of every group; the group of a row follows from
+   * the hash groups, or else from the group boundaries in sort order.
+   */
+  private <T> double[] target(
+    Ordinal col,
+    ToDoubleFunction<T> accessor,
+    DoubleBinaryOperator reducer,
+    Index indices
+  ) {
+    final int[] groups = this.groups;
+    final T[] source = argv(col.intValue());
+    final double[] target = new double[indices.size()];
+    final int amount = amount();
+    int group = 0;
+    for (int k = 0; k < amount; ++k) {
+      final int i = rank(k);
+      if (groups != null) {
+        group = groups[i];
+      } else {
+        while (k >= indices.getInt(group)) {
+          ++group;
+        }
       }
-      --j;
+      target[group] = reducer.applyAsDouble(
+        target[group],
+        accessor.applyAsDouble(source[i])
+      );
     }
     return target;
   }
 
-  private LongConsumer consumer(
-    final long[] target,
-    final int index,
-    final LongBinaryOperator reducer
+  /**
+   * Reduces all aggregates in one pass over the rows; the group of a row follows
+   * from the hash groups, or else from the group boundaries in sort order.
+   */
+  private <T> long[][] target(
+    Ordinal col,
+    List<Aggregate<T>> aggregates,
+    Index indices
   ) {
-    return value -> {
-      target[index] = reducer.applyAsLong(target[index], value);
-    };
+    final int[] groups = this.groups;
+    final T[] source = argv(col.intValue());
+    final int n = aggregates.size(), amount = amount();
+    final long[][] target = new long[n][indices.size()];
+    for (int a = 0; a < n; ++a) {
+      Arrays.fill(target[a], aggregates.get(a).identity());
+    }
+    int group = 0;
+    for (int k = 0; k < amount; ++k) {
+      final int i = rank(k);
+      if (groups != null) {
+        group = groups[i];
+      } else {
+        while (k >= indices.getInt(group)) {
+          ++group;
+        }
+      }
+      for (int a = 0; a < n; ++a) {
+        final Aggregate<T> aggregate = aggregates.get(a);
+        target[a][group] = aggregate.reducer().applyAsLong(
+          target[a][group],
+          aggregate.accessor().applyAsLong(source[i])
+        );
+      }
+    }
+    return target;
   }
 
   @Override
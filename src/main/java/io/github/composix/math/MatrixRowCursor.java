@@ -24,6 +24,7 @@
 
 package io.github.composix.math;
 
+import java.nio.LongBuffer;
 import java.util.Arrays;
 import java.util.List;
 
@@ -53,7 +54,7 @@ class MatrixRowCursor implements Cursor {
         byte pos = 0;
         while (actual != null) {
             positions[i++] = pos;
-            while ((current = argv.argv[(col + ++pos) & mask]) != null && current.getClass() == actual.getClass()) {
+            while ((current = argv.argv[(col + ++pos) & mask]) != null && type(current) == type(actual)) {
                 ++length;
             }
             actual = current;
@@ -62,6 +63,11 @@ class MatrixRowCursor implements Cursor {
         length = --pos;
     }
 
+    // the values of a join column decide its type, as its class is the same for all types
+    private static Class<?> type(Object column) {
+        return column instanceof ArgsMany<?> many ? many.values.getClass() : column.getClass();
+    }
+
     @Override
     public boolean advance(int delta) {
         if (row < amount) {
@@ -86,7 +92,14 @@ class MatrixRowCursor implements Cursor {
 
     @Override
     public Object get(Ordinal kind, int pos) {
-        return ((Object[]) argv[col + positions[kind.intValue()] + pos & mask])[row];
+        switch (argv[col + positions[kind.intValue()] + pos & mask]) {
+            case OrdinalList.DictionaryList<?> list:
+                return list.get(row);
+            case Object[] array:
+                return array[row];
+            default:
+                throw new ClassCastException();
+        }
     }
 
     @Override
@@ -99,6 +112,11 @@ class MatrixRowCursor implements Cursor {
                         return (T) array[row - 1];
                     }
                     break;
+                case OrdinalList.DictionaryList<?> list:
+                    if (list.dictionary().getClass() == type.arrayType()) {
+                        return (T) list.get(row - 1);
+                    }
+                    break;
                 default:
                     break;
             }
@@ -125,6 +143,17 @@ class MatrixRowCursor implements Cursor {
                         return Arrays.asList((T[]) array[row]);
                     }
                     break;
+                case OrdinalList.DictionaryList<?> list:
+                    if (list.dictionary().getClass() == type) {
+                        value = list.get(row - 1);
+                        return (List<T>) List.of(value);
+                    }
+                    break;
+                case ArgsMany<?> many:
+                    if (many.values.getClass() == type) {
+                        return (List<T>) many.get(row - 1);
+                    }
+                    break;
                 default:
                     break;
             }
@@ -139,6 +168,14 @@ class MatrixRowCursor implements Cursor {
             switch(argv[offset + position & mask]) {
                 case long[] longs:
                     return longs[row];
+                case LongBuffer buffer:
+                    return buffer.get(row);
+                case int[] ints:
+                    return ints[row];
+                case short[] shorts:
+                    return shorts[row];
+                case byte[] bytes:
+                    return bytes[row];
                 case CharSequence[] strings:
                     return Row.parseLong(strings[row]);
                 default:
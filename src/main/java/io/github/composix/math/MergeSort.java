@@ -0,0 +1,143 @@
+/**
+ * class MergeSort
+ *
+ * Stable merge sort of packed row ranks by a comparator over row indices.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Sorts the ranks of a permutation in place, without boxing them into ordinals.
+ * The sort alternates between the ranks and a copy of them, so that every level
+ * merges into the other array, and ranges that are already in order are copied
+ * rather than merged. Ranges of at least {@link MutableOrder#PARALLEL_THRESHOLD}
+ * ranks can be sorted on the common fork-join pool.
+ *
+ * @since October 2026
+ */
+final class MergeSort {
+    private static final int INSERTION_THRESHOLD = 7;
+
+    private MergeSort() {
+    }
+
+    /**
+     * Stable sort of the ranks {@code fromIndex} up to {@code toIndex}.
+     *
+     * @param ranks - the ranks to sort in place
+     * @param fromIndex - the first rank, inclusive
+     * @param toIndex - the last rank, exclusive
+     * @param comparator - compares two row indices
+     */
+    static void sort(short[] ranks, int fromIndex, int toIndex, IntBinaryOperator comparator) {
+        final short[] buffer = Arrays.copyOfRange(ranks, fromIndex, toIndex);
+        sort(buffer, ranks, fromIndex, toIndex, -fromIndex, comparator);
+    }
+
+    /**
+     * Same as {@link #sort(short[], int, int, IntBinaryOperator)}, but sorts the
+     * halves of large ranges on the common fork-join pool, so the comparator must
+     * be safe to call from multiple threads.
+     */
+    static void parallelSort(short[] ranks, int fromIndex, int toIndex, IntBinaryOperator comparator) {
+        final short[] buffer = Arrays.copyOfRange(ranks, fromIndex, toIndex);
+        ForkJoinPool.commonPool().invoke(new SortTask(buffer, ranks, fromIndex, toIndex, -fromIndex, comparator));
+    }
+
+    // sorts dest[low, high) from src[low + off, high + off), which holds the same ranks
+    private static void sort(short[] src, short[] dest, int low, int high, int off, IntBinaryOperator comparator) {
+        if (high - low < INSERTION_THRESHOLD) {
+            for (int i = low + 1; i < high; ++i) {
+                final short rank = dest[i];
+                int j = i;
+                while (j > low && comparator.applyAsInt(dest[j - 1], rank) > 0) {
+                    dest[j] = dest[j - 1];
+                    --j;
+                }
+                dest[j] = rank;
+            }
+            return;
+        }
+        final int mid = (low + high) / 2 + off;
+        sort(dest, src, low + off, mid, -off, comparator);
+        sort(dest, src, mid, high + off, -off, comparator);
+        merge(src, dest, low, high, off, mid, comparator);
+    }
+
+    // merges the sorted src[low + off, mid) and src[mid, high + off) into dest[low, high)
+    private static void merge(short[] src, short[] dest, int low, int high, int off, int mid, IntBinaryOperator comparator) {
+        final int end = high + off;
+        int p = low + off, q = mid;
+        if (comparator.applyAsInt(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, p, dest, low, high - low);
+            return;
+        }
+        for (int i = low; i < high; ++i) {
+            if (q >= end || p < mid && comparator.applyAsInt(src[p], src[q]) <= 0) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final short[] src, dest;
+        private final int low, high, off;
+        private final transient IntBinaryOperator comparator;
+
+        SortTask(short[] src, short[] dest, int low, int high, int off, IntBinaryOperator comparator) {
+            this.src = src;
+            this.dest = dest;
+            this.low = low;
+            this.high = high;
+            this.off = off;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < MutableOrder.PARALLEL_THRESHOLD) {
+                sort(src, dest, low, high, off, comparator);
+                return;
+            }
+            final int mid = (low + high) / 2 + off;
+            invokeAll(
+                new SortTask(dest, src, low + off, mid, -off, comparator),
+                new SortTask(dest, src, mid, high + off, -off, comparator)
+            );
+            merge(src, dest, low, high, off, mid, comparator);
+        }
+    }
+}
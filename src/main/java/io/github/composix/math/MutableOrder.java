@@ -28,12 +28,33 @@ import java.util.Comparator;
 import java.util.stream.Stream;
 
 public interface MutableOrder extends Order {
+    /**
+     * Comparator-based reorders of at least this many rows are sorted in parallel
+     * on the common fork-join pool, provided that the comparator only reads keys
+     * that were extracted beforehand, like the comparators of a matrix over a long
+     * or dictionary column or over the keys of an accessor. Other comparators are
+     * always called from the reordering thread. Defaults to 8192 and can be
+     * configured with the system property
+     * {@code io.github.composix.math.parallelThreshold}.
+     */
+    int PARALLEL_THRESHOLD = Math.max(2, Integer.getInteger("io.github.composix.math.parallelThreshold", 1 << 13));
+
     void resize(int ordinal);
     
     void reorder(Comparator<Ordinal> comparator);
 
     void reorder(Comparator<Ordinal> comparator, int fromIndex, int toIndex);
 
+    /**
+     * Reorders the rows in ascending order of the given keys, which are indexed
+     * by row. Rows with equal keys keep their current relative order, exactly as
+     * with {@code reorder(Comparator)}, but without calling a comparator: large
+     * tables are sorted by radix.
+     *
+     * @param keys - the key of each row
+     */
+    void reorder(long[] keys);
+
     void reorder(Ordinal... ordinals);
 
     Ordinal ordinalAt(Object key, Comparator<Object> comparator);
@@ -24,20 +24,27 @@
 
 package io.github.composix.math;
 
-import java.util.Arrays;
-import java.util.BitSet;
 import java.util.Comparator;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+/**
+ * Mutable order of at most {@code Short.MAX_VALUE} rows. The permutation is
+ * stored as packed ranks in a {@code short[]}; the empty array {@link #IDENTITY}
+ * represents the identity permutation without storing it.
+ *
+ * @author dr. ir. J. M. Valk
+ * @since April 2025
+ */
 class OrderInt extends OrdinalInt implements MutableOrder {
-    private static final BitSet MARKED = new BitSet();
+    static final short[] IDENTITY = {};
  
-    Ordinal[] ordinals;
+    short[] ordinals;
 
     OrderInt(int ordinal) {
         super(ordinal);
-        ordinals = ORDINALS;
+        ordinals = IDENTITY;
     }
 
     @Override
@@ -47,13 +54,16 @@ class OrderInt extends OrdinalInt implements MutableOrder {
     
     @Override
     public boolean isOrdinal() {
-        return ordinals == ORDINALS;
+        return ordinals == IDENTITY;
     }
     
     @Override
     public int rank(int index) {
+        if (ordinals == IDENTITY) {
+            return index;
+        }
         try {
-            return ordinals[index].intValue();
+            return ordinals[index];
         } catch(ArrayIndexOutOfBoundsException e) {
             return index;
         }
@@ -61,8 +71,11 @@ class OrderInt extends OrdinalInt implements MutableOrder {
 
     @Override
     public Ordinal rank(Ordinal index) {
+        if (ordinals == IDENTITY) {
+            return index;
+        }
         try {
-            return ordinals[index.intValue()];
+            return Ordinal.of(ordinals[index.intValue()]);
         } catch(ArrayIndexOutOfBoundsException e) {
             return index;
         }
@@ -73,9 +86,7 @@ class OrderInt extends OrdinalInt implements MutableOrder {
         if (isOrdinal()) {
             return;
         }
-        int index = 0;
-        MARKED.clear();
-        while ((index = cycle(target, mask, index, array)) < ordinal);
+        permute(this, ordinals.length, target, mask, array);
     }
 
     @Override
@@ -83,7 +94,8 @@ class OrderInt extends OrdinalInt implements MutableOrder {
         if (isOrdinal()) {
             return Stream.of(array);
         }
-        return Stream.of(ordinals).mapToInt(Ordinal::intValue).mapToObj(i -> array[i]);
+        final short[] ordinals = this.ordinals;
+        return IntStream.range(0, ordinals.length).mapToObj(i -> array[ordinals[i]]);
     }
 
     @Override
@@ -91,7 +103,8 @@ class OrderInt extends OrdinalInt implements MutableOrder {
         if (isOrdinal()) {
             return LongStream.of(array);
         }
-        return Stream.of(ordinals).mapToInt(Ordinal::intValue).mapToLong(i -> array[i]);
+        final short[] ordinals = this.ordinals;
+        return IntStream.range(0, ordinals.length).mapToLong(i -> array[ordinals[i]]);
     }
 
     @Override
@@ -105,55 +118,102 @@ class OrderInt extends OrdinalInt implements MutableOrder {
     }
 
     public void skipHeader() {
-        if (ordinals == ORDINALS) {
-            ordinals = copyOf(ORDINALS, 1);
+        if (ordinals == IDENTITY) {
+            ordinals = ranks(1, rows());
         }
     }
 
     @Override
     public void reorder(Comparator<Ordinal> comparator) {
-        reorder(comparator, 0, ordinals.length);
+        reorder(comparator, 0, length());
     }
     
     @Override
     public void reorder(Comparator<Ordinal> comparator, int fromIndex, int toIndex) {
-        final int amount = ordinal % OMEGA.intValue(), offset = Math.max(0, amount - ordinals.length);
+        final int amount = ordinal % OMEGA.intValue(), offset = Math.max(0, amount - length());
         toIndex = Math.min(toIndex, amount);
         if (toIndex-- > 1) {
-            final Ordinal[] omega = ORDINALS;
             if (comparator != NATURAL_ORDER) {
                 int i = fromIndex;
                 while(i < toIndex) {
-                    if (comparator.compare(omega[offset + i], omega[offset + ++i]) > 0) {
-                        if (ordinals == omega) {
-                            ordinals = copyOf(omega);
+                    if (comparator.compare(Ordinal.of(offset + i), Ordinal.of(offset + ++i)) > 0) {
+                        if (ordinals == IDENTITY) {
+                            ordinals = ranks(0, rows());
                         }
-                        Arrays.sort(ordinals, fromIndex, ++toIndex, comparator);
+                        sort(comparator, fromIndex, ++toIndex);
                         return;
                     }
                 }
             }
-            if (ordinals != omega) {
+            if (ordinals != IDENTITY) {
                 if (++toIndex < amount || fromIndex > 0) {
                     for (int i = fromIndex; i < toIndex; ++i) {
-                        ordinals[i] = omega[offset + i];
+                        ordinals[i] = (short) (offset + i);
                     }
                 } else {
-                    ordinals = omega;
+                    ordinals = IDENTITY;
                 }
             }    
         }
     }
 
+    @Override
+    public void reorder(final long[] keys) {
+        final int amount = ordinal % OMEGA.intValue();
+        if (amount < RadixSort.THRESHOLD) {
+            reorder((lhs, rhs) -> Long.compare(keys[lhs.intValue()], keys[rhs.intValue()]));
+            return;
+        }
+        final int offset = Math.max(0, amount - length()), toIndex = Math.min(length(), amount);
+        if (RadixSort.isSorted(keys, offset, offset + toIndex)) {
+            reorder(NATURAL_ORDER);
+            return;
+        }
+        if (ordinals == IDENTITY) {
+            ordinals = ranks(0, rows());
+        }
+        final short[] ordinals = this.ordinals;
+        final int[] ranks = new int[toIndex];
+        for (int i = 0; i < toIndex; ++i) {
+            ranks[i] = ordinals[i];
+        }
+        RadixSort.sort(keys, ranks);
+        for (int i = 0; i < toIndex; ++i) {
+            ordinals[i] = (short) ranks[i];
+        }
+    }
+
     @Override
     public void reorder(Ordinal... ordinals) {
-        this.ordinals = ordinals;
+        if (ordinals == ORDINALS) {
+            this.ordinals = IDENTITY;
+            return;
+        }
+        final short[] ranks = new short[ordinals.length];
+        for (int i = 0; i < ranks.length; ++i) {
+            ranks[i] = ordinals[i].shortValue();
+        }
+        this.ordinals = ranks;
     }
 
     @Override
     public Ordinal ordinalAt(Object key, Comparator<Object> comparator) {
-        final int index = Arrays.binarySearch((Object[]) ordinals, key, comparator);
-        return index < 0 ? OMEGA : ORDINALS[index];
+        int low = 0, high = length();
+        if (ordinals == IDENTITY) {
+            high = amount();
+        }
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            final int result = comparator.compare(rank(Ordinal.of(mid)), key);
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid;
+            } else {
+                return Ordinal.of(mid);
+            }
+        }
+        return OMEGA;
     }
 
     @Override
@@ -162,32 +222,42 @@ class OrderInt extends OrdinalInt implements MutableOrder {
         throw new UnsupportedOperationException("Unimplemented method 'streamArgv'");
     }
 
-    private int cycle(final int target, final int mask, final int index, Object[] array) {
-        final Object value = array[(target + index) & mask];
-        int current = index, next = MARKED.nextClearBit(index) + 1;
-        while(next <= ordinal) {
-            final int rank = rank(current);
-            if (rank == index) {
-                array[(target + current) & mask] = value;
-                return next;
-            }
-            if (rank == next) {
-                next = MARKED.nextClearBit(++next);
-            } else {
-                MARKED.set(rank);
-            }
-            array[(target + current) & mask] = array[(target + rank) & mask];
-            if (rank < ordinal) {
-                current = rank;
+    @Override
+    public int amount() {
+        if (ordinals == IDENTITY) {
+            return super.amount();
+        }
+        return Math.min(ordinals.length, super.amount());
+    }
+
+    /**
+     * Returns the number of stored ranks, where the identity permutation counts
+     * as unbounded.
+     */
+    int length() {
+        return ordinals == IDENTITY ? Integer.MAX_VALUE : ordinals.length;
+    }
+
+    private void sort(Comparator<Ordinal> comparator, int fromIndex, int toIndex) {
+        if (comparator instanceof KeyComparator keys) {
+            if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+                MergeSort.sort(ordinals, fromIndex, toIndex, keys::compare);
             } else {
-                current = next;
+                MergeSort.parallelSort(ordinals, fromIndex, toIndex, keys::compare);
             }
+            return;
         }
-        return next;
+        // other comparators may have side effects, e.g., resolving the columns of a
+        // matrix in its arena, so they are only ever called from this thread; the
+        // ordinals of the ranks are predefined, so looking them up allocates nothing
+        MergeSort.sort(ordinals, fromIndex, toIndex, (lhs, rhs) -> comparator.compare(Ordinal.of(lhs), Ordinal.of(rhs)));
     }
 
-    @Override
-    public int amount() {
-        return Math.min(ordinals.length, super.amount());
+    private static short[] ranks(int fromIndex, int toIndex) {
+        final short[] result = new short[toIndex - fromIndex];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = (short) (fromIndex + i);
+        }
+        return result;
     }
 }
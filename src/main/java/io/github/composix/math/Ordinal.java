@@ -24,35 +24,71 @@
 
 package io.github.composix.math;
 
+import java.nio.LongBuffer;
 import java.util.ListIterator;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 public interface Ordinal extends ArgsOrdinal, ListIterator<Ordinal>, Comparable<Ordinal> {
     static Ordinal of(int index) {
-        return OrdinalNumber.ORDINALS[index];
+        return CONSTANTS.ordinal(index);
     }
 
     void any(boolean... values);
 
-    void any(byte... values);
+    Column<Byte> any(byte... values);
 
     void any(char... values);
 
-    void any(short... values);
+    Column<Short> any(short... values);
 
     Column<Integer> any(int... values);
 
     Column<Long> any(long... values);
 
+    /**
+     * Creates a column of type long[] whose values live outside the heap, in a
+     * direct buffer; see {@link #allocate(int)}.
+     *
+     * @param values - the direct buffer holding the values of the column
+     * @return the column, or null if this is the first column of its type
+     * @since October 2026
+     */
+    Column<Long> any(LongBuffer values);
+
+    /**
+     * Allocates a zero-filled direct buffer for an off-heap long column, which
+     * the garbage collector neither copies nor scans; the memory is released
+     * when the last column referring to it is no longer reachable.
+     *
+     * @param length - the number of values
+     * @return the buffer to fill and pass to {@link #any(LongBuffer)}
+     * @since October 2026
+     */
+    static LongBuffer allocate(int length) {
+        return OrdinalList.BufferIndex.allocate(length);
+    }
+
     void any(float... values);
 
-    void any(double... values);
+    Column<Double> any(double... values);
 
     <R> Column<R> any(Stream<R> values);
 
     <T extends Comparable<T>> Column<T> all(@SuppressWarnings("unchecked") T... values);
 
+    /**
+     * Creates a dictionary-encoded column for low-cardinality values, such as
+     * category names or statuses: the distinct values are stored once and
+     * every row holds a code of one, two or, beyond 32768 distinct values,
+     * four bytes, on which sorting and grouping operate.
+     *
+     * @param values - the values of the column
+     * @return the column, or null if this is the first column of its type
+     * @since October 2026
+     */
+    <T extends Comparable<T>> Column<T> dictionary(@SuppressWarnings("unchecked") T... values);
+
     byte byteValue();
     
     short shortValue();
@@ -63,7 +63,7 @@ class OrdinalInt extends OrdinalNumber implements Order {
 
     @Override
     public Ordinal ordinal() {
-        return ORDINALS[ordinal];       
+        return CONSTANTS.ordinal(ordinal);
     }
 
     @Override
@@ -36,11 +36,16 @@
 
 package io.github.composix.math;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
 import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
@@ -291,6 +296,19 @@ abstract class OrdinalList<E extends Comparable<E>>
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Returns the backing representation of this list only if it is a
+   * double array. This method is only implemented by subclasses that use
+   * a {@code double[]} as backing.
+   *
+   * @return the backing representation of this list
+   * @throws UnsupportedOperationException if the backing representation
+   * is not a double array
+   */
+  double[] asDoubleArray() {
+    throw new UnsupportedOperationException();
+  }
+
   static final class ComparableList<E extends Comparable<E>>
     extends OrdinalList<E> {
 
@@ -550,9 +568,7 @@ abstract class OrdinalList<E extends Comparable<E>>
 
     @Override
     public void reorder(final MutableOrder order) {
-      order.reorder((lhs, rhs) ->
-        Long.compare(index[lhs.intValue()], index[rhs.intValue()])
-      );
+      order.reorder(index);
     }
     
     @Override
@@ -590,42 +606,703 @@ abstract class OrdinalList<E extends Comparable<E>>
       index[i] = j;
     }
 
+    @Override
+    int ranks(final Order order, Index ranks) {
+      return longRanks(this, order, ranks);
+    }
+    
+    @Override
+    Range<Long> range(int count, int amount, Index result, Order order) {
+      return longRange(this, count, amount, result, order);
+    }
+  }
+
+  /**
+   * OrdinalList backed by a direct {@code LongBuffer}, which keeps the values
+   * outside the garbage-collected heap; e.g., for id and timestamp columns of
+   * many millions of rows. The buffer stands in for the {@code long[]} of
+   * the column.
+   */
+  static final class BufferIndex extends OrdinalList<Long> {
+
+    /**
+     * Allocates a direct buffer of the specified length in native byte order.
+     *
+     * @param length - the number of values
+     * @return a zero-filled buffer outside the heap
+     */
+    static LongBuffer allocate(final int length) {
+      return ByteBuffer.allocateDirect(Math.multiplyExact(length, Long.BYTES))
+        .order(ByteOrder.nativeOrder())
+        .asLongBuffer();
+    }
+
+    private final LongBuffer index;
+
+    BufferIndex(final LongBuffer index) {
+      this.index = index;
+    }
+
+    BufferIndex(final int length) {
+      this.index = allocate(length);
+    }
+
+    @Override
+    public void reorder(final MutableOrder order) {
+      order.reorder((lhs, rhs) ->
+        Long.compare(index.get(lhs.intValue()), index.get(rhs.intValue()))
+      );
+    }
+
+    @Override
+    Object asArray() {
+      return index;
+    }
+
+    @Override
+    public int size() {
+      return index.limit();
+    }
+
+    @Override
+    public Long get(int i) {
+      return getLong(i);
+    }
+
+    @Override
+    public int getInt(int i) {
+      return (int) index.get(i);
+    }
+
+    @Override
+    public long getLong(int i) {
+      return index.get(i);
+    }
+
+    @Override
+    public void setInt(int i, int j) {
+      index.put(i, j);
+    }
+
+    @Override
+    int ranks(final Order order, Index ranks) {
+      return longRanks(this, order, ranks);
+    }
+
+    @Override
+    Range<Long> range(int count, int amount, Index result, Order order) {
+      return longRange(this, count, amount, result, order);
+    }
+  }
+
+  /**
+   * OrdinalList backed by a bit-packed index: every value is stored relative
+   * to a base value in a fixed number of bits, so that an index of values up
+   * to, e.g., 3 or 12 bits does not take a full byte or short per entry.
+   * Values may straddle two words of the backing {@code long[]}.
+   */
+  static final class PackedIndex extends OrdinalList<Long> {
+
+    private final int length;
+    private final int width;
+    private final long base, mask;
+    private final long[] words;
+
+    /**
+     * @param length - the length of the index
+     * @param base - the smallest value that may occur (frame of reference)
+     * @param width - the number of bits per value, less than 64
+     */
+    PackedIndex(final int length, final long base, final int width) {
+      this.length = length;
+      this.width = width;
+      this.base = base;
+      mask = (1L << width) - 1;
+      words = new long[(int) (((long) length * width + Long.SIZE - 1) >>> 6)];
+    }
+
+    @Override
+    public void reorder(final MutableOrder order) {
+      order.reorder((lhs, rhs) ->
+        Long.compare(getLong(lhs.intValue()), getLong(rhs.intValue()))
+      );
+    }
+
+    @Override
+    public int size() {
+      return length;
+    }
+
+    @Override
+    public Long get(int i) {
+      return getLong(i);
+    }
+
+    @Override
+    public int getInt(int i) {
+      return (int) getLong(i);
+    }
+
+    @Override
+    public long getLong(int i) {
+      Objects.checkIndex(i, length);
+      final long bit = (long) i * width;
+      final int word = (int) (bit >>> 6), shift = (int) bit & 63;
+      long value = words[word] >>> shift;
+      if (shift + width > Long.SIZE) {
+        value |= words[word + 1] << (Long.SIZE - shift);
+      }
+      return base + (value & mask);
+    }
+
+    @Override
+    public void setInt(int i, int j) {
+      Objects.checkIndex(i, length);
+      final long value = (j - base) & mask, bit = (long) i * width;
+      final int word = (int) (bit >>> 6), shift = (int) bit & 63;
+      words[word] = (words[word] & ~(mask << shift)) | (value << shift);
+      if (shift + width > Long.SIZE) {
+        final int high = Long.SIZE - shift;
+        words[word + 1] = (words[word + 1] & ~(mask >>> high)) | (value >>> high);
+      }
+    }
+
+    @Override
+    int ranks(final Order order, Index ranks) {
+      return longRanks(this, order, ranks);
+    }
+
+    @Override
+    Range<Long> range(int count, int amount, Index result, Order order) {
+      return longRange(this, count, amount, result, order);
+    }
+  }
+
+  /**
+   * OrdinalList backed by an Elias-Fano encoding of a non-decreasing sequence,
+   * such as the cumulative counts of a range. The low bits of every value are
+   * bit-packed, the high bits are stored as gaps in unary, which takes about
+   * {@code 2 + log2(lastValue / length)} bits per value. The position of every
+   * 64th value in the unary part is sampled, so that a lookup only counts bits
+   * in a few words.
+   *
+   * The values are set in order, as the cumulative counts are computed.
+   */
+  static final class MonotoneIndex extends OrdinalList<Long> {
+
+    /**
+     * Returns the number of bits that a monotone index takes, to decide whether
+     * it pays off compared to a plain index.
+     */
+    static long bits(final int length, final int lastValue) {
+      final int low = lowBits(length, lastValue);
+      return (long) length * (low + 1) + (lastValue >>> low) + 1 + (long) Integer.SIZE * ((length + 63) >>> 6);
+    }
+
+    private static int lowBits(final int length, final int lastValue) {
+      return length == 0 || lastValue <= length
+        ? 0
+        : 31 - Integer.numberOfLeadingZeros(lastValue / length);
+    }
+
+    private final int length, low;
+    private final PackedIndex lows;
+    private final long[] highs;
+    private final int[] samples;
+    private int next, last;
+
+    MonotoneIndex(final int length, final int lastValue) {
+      this.length = length;
+      low = lowBits(length, lastValue);
+      lows = low == 0 ? null : new PackedIndex(length, 0, low);
+      highs = new long[(int) (((long) length + (lastValue >>> low) + Long.SIZE - 1) >>> 6)];
+      samples = new int[(length + 63) >>> 6];
+    }
+
+    @Override
+    public int size() {
+      return length;
+    }
+
+    @Override
+    public Long get(int i) {
+      return getLong(i);
+    }
+
+    @Override
+    public int getInt(int i) {
+      Objects.checkIndex(i, next);
+      int rank = i & 63, position = samples[i >>> 6], word = position >>> 6;
+      long bits = highs[word] & (-1L << position);
+      int count;
+      while (rank >= (count = Long.bitCount(bits))) {
+        rank -= count;
+        bits = highs[++word];
+      }
+      while (rank-- > 0) {
+        bits &= bits - 1;
+      }
+      position = (word << 6) + Long.numberOfTrailingZeros(bits);
+      final int high = (position - i) << low;
+      return lows == null ? high : high | lows.getInt(i);
+    }
+
+    @Override
+    public long getLong(int i) {
+      return getInt(i);
+    }
+
+    /**
+     * Appends the value at the given index, which must be the next index; the
+     * value must not be smaller than the previous one.
+     */
+    @Override
+    public void setInt(int i, int j) {
+      if (i != next || j < last) {
+        throw new IllegalArgumentException(
+          "monotone index requires non-decreasing values in order"
+        );
+      }
+      final int position = (j >>> low) + i;
+      highs[position >>> 6] |= 1L << position;
+      if ((i & 63) == 0) {
+        samples[i >>> 6] = position;
+      }
+      if (lows != null) {
+        lows.setInt(i, j & ((1 << low) - 1));
+      }
+      last = j;
+      ++next;
+    }
+  }
+
+  /**
+   * Ranks the values of a numeric list by their {@code long} value; shared by
+   * the long list and the narrow integer lists.
+   */
+  static int longRanks(final OrdinalList<?> list, final Order order, Index ranks) {
+    final int size = ranks.size();
+    int count = 0, rank = order.rank(0);
+    ranks.setInt(rank, count);
+    long current = list.getLong(rank);
+    for (int i = 1; i < size; ++i) {
+      rank = order.rank(i);
+      if (current != (current = list.getLong(rank))) {
+        ++count;
+      }
+      ranks.setInt(rank, count);
+    }
+    return ++count;
+  }
+
+  /**
+   * Creates the range of distinct values of a numeric list, widened to
+   * {@code long}; only the distinct values are widened, not the rows.
+   */
+  static Range<Long> longRange(
+    final OrdinalList<?> list,
+    int count,
+    int amount,
+    Index result,
+    Order order
+  ) {
+    final Index indices = Index.monotone(count, amount);
+    final long[] array = new long[count];
+    count = 0;
+    int rank = order.rank(0);
+    int current = result.getInt(rank);
+    array[0] = list.getLong(rank);
+    for (int i = 1; i < amount; ++i) {
+      rank = order.rank(i);
+      if (current != (current = result.getInt(rank))) {
+        indices.setInt(count++, i);
+        array[count] = list.getLong(rank);
+      }
+    }
+    indices.setInt(count, amount);
+    Range<Long> range = new ArgsLongSet(array);
+    range.indices = indices;
+    return range;
+  }
+
+  /**
+   * A list of int values, which backs the columns of type int[] without
+   * widening every value to {@code long}.
+   */
+  static final class IntList extends OrdinalList<Integer> {
+
+    private final int[] values;
+
+    IntList(final int[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public void reorder(final MutableOrder order) {
+      order.reorder((lhs, rhs) ->
+        Integer.compare(values[lhs.intValue()], values[rhs.intValue()])
+      );
+    }
+
+    @Override
+    Object asArray() {
+      return values;
+    }
+
+    @Override
+    int[] asIntArray() {
+      return values;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public Integer get(int i) {
+      return values[i];
+    }
+
+    @Override
+    public int getInt(int i) {
+      return values[i];
+    }
+
+    @Override
+    public long getLong(int i) {
+      return values[i];
+    }
+
+    @Override
+    int ranks(final Order order, Index ranks) {
+      return longRanks(this, order, ranks);
+    }
+
+    @Override
+    Range<Integer> range(int count, int amount, Index result, Order order) {
+      return (Range<Integer>) (Range<?>) longRange(this, count, amount, result, order);
+    }
+  }
+
+  /**
+   * A list of short values, which backs the columns of type short[] without
+   * widening every value to {@code long}.
+   */
+  static final class ShortList extends OrdinalList<Short> {
+
+    private final short[] values;
+
+    ShortList(final short[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public void reorder(final MutableOrder order) {
+      order.reorder((lhs, rhs) ->
+        Short.compare(values[lhs.intValue()], values[rhs.intValue()])
+      );
+    }
+
+    @Override
+    Object asArray() {
+      return values;
+    }
+
+    @Override
+    short[] asShortArray() {
+      return values;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public Short get(int i) {
+      return values[i];
+    }
+
+    @Override
+    public int getInt(int i) {
+      return values[i];
+    }
+
+    @Override
+    public long getLong(int i) {
+      return values[i];
+    }
+
+    @Override
+    int ranks(final Order order, Index ranks) {
+      return longRanks(this, order, ranks);
+    }
+
+    @Override
+    Range<Short> range(int count, int amount, Index result, Order order) {
+      return (Range<Short>) (Range<?>) longRange(this, count, amount, result, order);
+    }
+  }
+
+  /**
+   * A list of byte values, which backs the columns of type byte[] without
+   * widening every value to {@code long}.
+   */
+  static final class ByteList extends OrdinalList<Byte> {
+
+    private final byte[] values;
+
+    ByteList(final byte[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public void reorder(final MutableOrder order) {
+      order.reorder((lhs, rhs) ->
+        Byte.compare(values[lhs.intValue()], values[rhs.intValue()])
+      );
+    }
+
+    @Override
+    Object asArray() {
+      return values;
+    }
+
+    @Override
+    byte[] asByteArray() {
+      return values;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public Byte get(int i) {
+      return values[i];
+    }
+
+    @Override
+    public int getInt(int i) {
+      return values[i];
+    }
+
+    @Override
+    public long getLong(int i) {
+      return values[i];
+    }
+
+    @Override
+    int ranks(final Order order, Index ranks) {
+      return longRanks(this, order, ranks);
+    }
+
+    @Override
+    Range<Byte> range(int count, int amount, Index result, Order order) {
+      return (Range<Byte>) (Range<?>) longRange(this, count, amount, result, order);
+    }
+  }
+
+  /**
+   * A list of double values, which backs the columns of type double[]. Unlike
+   * the other subclasses it holds values rather than indices, so it only
+   * supports reading, reordering and streaming of the values.
+   */
+  static final class DoubleList extends OrdinalList<Double> {
+
+    private final double[] values;
+
+    DoubleList(final double[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public void reorder(final MutableOrder order) {
+      order.reorder((lhs, rhs) ->
+        Double.compare(values[lhs.intValue()], values[rhs.intValue()])
+      );
+    }
+
+    @Override
+    Object asArray() {
+      return values;
+    }
+
+    @Override
+    double[] asDoubleArray() {
+      return values;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public Double get(int i) {
+      return values[i];
+    }
+
+    /**
+     * Ranks like {@link #longRanks}, comparing by {@link Double#compare}, so
+     * that the groups agree with the order of {@link #reorder}.
+     */
     @Override
     int ranks(final Order order, Index ranks) {
       final int size = ranks.size();
       int count = 0, rank = order.rank(0);
       ranks.setInt(rank, count);
-      long current = getLong(rank);
+      double current = values[rank];
       for (int i = 1; i < size; ++i) {
         rank = order.rank(i);
-        if (current != (current = getLong(rank))) {
+        final double value = values[rank];
+        if (Double.compare(current, value) != 0) {
           ++count;
         }
+        current = value;
         ranks.setInt(rank, count);
       }
       return ++count;
     }
-    
+
     @Override
-    Range<Long> range(int count, int amount, Index result, Order order) {
-      final Index indices = Index.of(count, amount);
-      final long[] array = new long[count];
+    Range<Double> range(int count, int amount, Index result, Order order) {
+      final Index indices = Index.monotone(count, amount);
+      final Double[] array = new Double[count];
       count = 0;
       int rank = order.rank(0);
       int current = result.getInt(rank);
-      array[0] = getLong(rank);
+      array[0] = values[rank];
       for (int i = 1; i < amount; ++i) {
         rank = order.rank(i);
         if (current != (current = result.getInt(rank))) {
           indices.setInt(count++, i);
-          array[count] = getLong(rank);
+          array[count] = values[rank];
         }
       }
       indices.setInt(count, amount);
-      Range<Long> range = new ArgsLongSet(array);
-      range.indices = indices;
-      return range;
+      return Range.of(indices, array);
+    }
+  }
+
+  /**
+   * A dictionary-encoded list, which backs low-cardinality columns such as
+   * categories or statuses. Every distinct value is stored once in a sorted
+   * dictionary and every row holds the code of its value in the narrowest
+   * index that fits, so sorting and grouping compare codes instead of values.
+   */
+  static final class DictionaryList<E extends Comparable<E>>
+    extends OrdinalList<E> {
+
+    /**
+     * Encodes the values by their position in the sorted dictionary of the
+     * distinct values, so that the order of the codes is the order of the
+     * values.
+     *
+     * @param values - the values to encode
+     * @return the dictionary-encoded list
+     */
+    static <E extends Comparable<E>> DictionaryList<E> encode(final E[] values) {
+      final E[] sorted = values.clone();
+      Arrays.sort(sorted);
+      int count = 0;
+      for (int i = 0; i < sorted.length; ++i) {
+        if (count == 0 || sorted[count - 1].compareTo(sorted[i]) != 0) {
+          sorted[count++] = sorted[i];
+        }
       }
-  
+      final E[] dictionary = Arrays.copyOf(sorted, count);
+      final int length = values.length;
+      final OrdinalList<?> codes = count <= Byte.MAX_VALUE + 1
+        ? new ByteIndex(length)
+        : count <= Short.MAX_VALUE + 1
+          ? new ShortIndex(length)
+          : new IntIndex(length);
+      for (int i = 0; i < length; ++i) {
+        codes.setInt(i, Arrays.binarySearch(dictionary, values[i]));
+      }
+      return new DictionaryList<>(dictionary, codes);
+    }
+
+    private final E[] dictionary;
+    private final OrdinalList<?> codes;
+
+    private DictionaryList(final E[] dictionary, final OrdinalList<?> codes) {
+      this.dictionary = dictionary;
+      this.codes = codes;
+    }
+
+    @Override
+    public void reorder(final MutableOrder order) {
+      codes.reorder(order);
+    }
+
+    /**
+     * The list stands in for its own array, so that the values are decoded
+     * only when they are read as an array, see {@link #decode()}.
+     */
+    @Override
+    Object asArray() {
+      return this;
+    }
+
+    @Override
+    public int size() {
+      return codes.size();
+    }
+
+    @Override
+    public E get(int i) {
+      return dictionary[codes.getInt(i)];
+    }
+
+    @Override
+    public int getInt(int i) {
+      return codes.getInt(i);
+    }
+
+    @Override
+    public long getLong(int i) {
+      return codes.getInt(i);
+    }
+
+    @Override
+    int ranks(final Order order, Index ranks) {
+      return longRanks(codes, order, ranks);
+    }
+
+    @Override
+    Range<E> range(int count, int amount, Index result, Order order) {
+      final Range<Long> range = longRange(codes, count, amount, result, order);
+      final long[] array = (long[]) range.asArray();
+      final E[] values = Arrays.copyOf(dictionary, count);
+      for (int i = 0; i < count; ++i) {
+        values[i] = dictionary[(int) array[i]];
+      }
+      return Range.of(range.indices, values);
+    }
+
+    /**
+     * Returns the sorted distinct values of this list.
+     */
+    E[] dictionary() {
+      return dictionary;
+    }
+
+    /**
+     * Decodes the codes into an array of values indexed by row.
+     *
+     * @return the values of the list
+     */
+    E[] decode() {
+      final int size = size();
+      final E[] result = Arrays.copyOf(dictionary, size);
+      for (int i = 0; i < size; ++i) {
+        result[i] = dictionary[codes.getInt(i)];
+      }
+      return result;
+    }
   }
 }
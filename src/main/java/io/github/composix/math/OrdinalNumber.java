@@ -34,18 +34,49 @@
 package io.github.composix.math;
 
 import java.lang.reflect.Array;
+import java.nio.LongBuffer;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.function.Consumer;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 abstract class OrdinalNumber extends Number implements Ordinal {
-    static final Ordinal[] ORDINALS = Constants.getInstance().ordinals;
+    // marks the natural order, in which every rank is its own ordinal
+    static final Ordinal[] ORDINALS = {};
 
-    private static final Constants CONSTANTS = Constants.getInstance();
     private static final NoSuchElementException NO_SUCH_ELEMENT_EXCEPTION = new NoSuchElementException("Ordinal 0 has no predecessor");
 
+    // per-thread scratch buffer, so that concurrent permutations share no state
+    private static final ThreadLocal<Object[]> SCRATCH = ThreadLocal.withInitial(() -> new Object[Byte.SIZE]);
+
+    /**
+     * Permutes the {@code length} slots from {@code target} onwards, such that
+     * slot {@code i} receives the value that was in slot {@code order.rank(i)}.
+     * Ranks may point beyond {@code length}, which selects the values from there.
+     * The values are staged in a scratch buffer owned by the calling thread,
+     * which grows as needed and is cleared afterwards.
+     *
+     * @param order - the order to apply
+     * @param length - the number of slots to permute
+     * @param target - the offset of the first slot
+     * @param mask - the mask to apply to the slot indices
+     * @param array - the array holding the slots
+     */
+    static void permute(Order order, int length, int target, int mask, Object[] array) {
+        Object[] scratch = SCRATCH.get();
+        if (scratch.length < length) {
+            scratch = new Object[Integer.highestOneBit(length) << 1];
+            SCRATCH.set(scratch);
+        }
+        for (int i = 0; i < length; ++i) {
+            scratch[i] = array[(target + order.rank(i)) & mask];
+        }
+        for (int i = 0; i < length; ++i) {
+            array[(target + i) & mask] = scratch[i];
+            scratch[i] = null;
+        }
+    }
+
     // from ArgsOrdinal
 
     @Override
@@ -107,7 +138,7 @@ abstract class OrdinalNumber extends Number implements Ordinal {
 
     @Override
     public Ordinal next() {
-        return ORDINALS[nextIndex()];
+        return CONSTANTS.ordinal(nextIndex());
     }
 
     @Override
@@ -118,7 +149,7 @@ abstract class OrdinalNumber extends Number implements Ordinal {
     @Override
     public Ordinal previous() {
         if (intValue() > 0) {
-            return ORDINALS[previousIndex()];
+            return CONSTANTS.ordinal(previousIndex());
         }
         throw NO_SUCH_ELEMENT_EXCEPTION;
     }
@@ -162,8 +193,12 @@ abstract class OrdinalNumber extends Number implements Ordinal {
     }
 
     @Override
-    public void any(byte... values) {
-        CONSTANTS.check(this, values);
+    public ArgsColumn<Byte> any(byte... values) {
+        byte tpos = CONSTANTS.check(this, values);
+        if (tpos < 0) {
+            return null;
+        }
+        return new ArgsColumn<>(tpos, values);
     }
 
     @Override
@@ -172,8 +207,12 @@ abstract class OrdinalNumber extends Number implements Ordinal {
     }
 
     @Override
-    public void any(short... values) {
-        CONSTANTS.check(this, values);
+    public ArgsColumn<Short> any(short... values) {
+        byte tpos = CONSTANTS.check(this, values);
+        if (tpos < 0) {
+            return null;
+        }
+        return new ArgsColumn<>(tpos, values);
     }
 
     @Override
@@ -182,7 +221,7 @@ abstract class OrdinalNumber extends Number implements Ordinal {
         if (tpos < 0) {
             return null;
         }
-        return new ArgsColumn<>(tpos, IntStream.of(values).mapToLong(i -> i).toArray());
+        return new ArgsColumn<>(tpos, values);
     }
 
     @Override
@@ -194,14 +233,27 @@ abstract class OrdinalNumber extends Number implements Ordinal {
         return new ArgsColumn<>(tpos, values);
     }
 
+    @Override
+    public ArgsColumn<Long> any(LongBuffer values) {
+        byte tpos = CONSTANTS.check(this, values);
+        if (tpos < 0) {
+            return null;
+        }
+        return new ArgsColumn<>(tpos, values);
+    }
+
     @Override
     public void any(float... values) {
         CONSTANTS.check(this, values);
     }
 
     @Override
-    public void any(double... values) {
-        CONSTANTS.check(this, values);
+    public ArgsColumn<Double> any(double... values) {
+        byte tpos = CONSTANTS.check(this, values);
+        if (tpos < 0) {
+            return null;
+        }
+        return new ArgsColumn<>(tpos, values);
     }
 
     @Override
@@ -223,6 +275,15 @@ abstract class OrdinalNumber extends Number implements Ordinal {
         return new ArgsColumn<>(tpos, values);
     }
 
+    @Override
+    public <T extends Comparable<T>> Column<T> dictionary(T... values) {
+        byte tpos = CONSTANTS.check(this, values);
+        if (tpos < 0) {
+            return null;
+        }
+        return new ArgsColumn<>(tpos, OrdinalList.DictionaryList.encode(values));
+    }
+
     @Override
     public boolean contains(Ordinal ordinal) {
         return ordinal.intValue() < intValue();
@@ -240,20 +301,20 @@ abstract class OrdinalNumber extends Number implements Ordinal {
 
     @Override
     public final Ordinal column() {
-        return CONSTANTS.columns[intValue()];
+        return CONSTANTS.column(intValue());
     }
     
     @Override
     public void forEach(Consumer<? super Ordinal> consumer) {
         final int length = intValue();
         for (int i = 0; i < length; ++i) {
-            consumer.accept(ORDINALS[i]);
+            consumer.accept(CONSTANTS.ordinal(i));
         }
     }
 
     @Override
     public final <T> T[] newInstance(final Class<T> type) {
-        final int length = intValue() % OMEGA.intValue();
+        final int length = rows();
         final Class<?> componentType = type.getComponentType();
         if (componentType != null) {
             Class<?> leafType = componentType.getComponentType();
@@ -279,12 +340,12 @@ abstract class OrdinalNumber extends Number implements Ordinal {
 
     @Override
     public final <T> T[] copyOf(T[] array) {
-        return Arrays.copyOf(array, intValue() % OMEGA.intValue());
+        return Arrays.copyOf(array, rows());
     }
 
     @Override
     public final <T> T copyOf(T array) {
-        final int amount = intValue() % OMEGA.intValue();
+        final int amount = rows();
         switch(array) {
             case Object[] objectArray:
                 return (T) Arrays.copyOf(objectArray, amount);
@@ -311,7 +372,7 @@ abstract class OrdinalNumber extends Number implements Ordinal {
 
     @Override
     public final <T> T copyOf(T array, int offset) {
-        final int amount = intValue() % OMEGA.intValue();
+        final int amount = rows();
         switch(array) {
             case Object[] objectArray:
                 return (T) Arrays.copyOfRange(objectArray, offset, amount);
@@ -335,4 +396,13 @@ abstract class OrdinalNumber extends Number implements Ordinal {
                 throw new IllegalArgumentException("array expected");
         }
     }
+
+    /**
+     * The number of rows encoded in this ordinal.
+     *
+     * @return the number of rows
+     */
+    int rows() {
+        return intValue() % OMEGA.intValue();
+    }
 }
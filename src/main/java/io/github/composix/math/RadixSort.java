@@ -0,0 +1,121 @@
+/**
+ * class RadixSort
+ *
+ * Stable least-significant-digit radix sort of row indices by 64-bit keys.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+/**
+ * Sorts row indices by 64-bit keys, one byte at a time from the least to the
+ * most significant byte. The histograms of all eight bytes are computed in a
+ * single pass over the keys, so that bytes that are equal for all keys, e.g.,
+ * the high bytes of small ids, cost no pass at all. Each pass is a stable
+ * counting sort, which makes the sort as a whole stable and O(n).
+ *
+ * Below {@link #THRESHOLD} rows the histograms dominate; callers should fall
+ * back to a comparison sort there.
+ *
+ * @since October 2026
+ */
+final class RadixSort {
+    static final int THRESHOLD = 256;
+
+    private static final int BITS = Byte.SIZE, RADIX = 1 << BITS, MASK = RADIX - 1;
+
+    private RadixSort() {
+    }
+
+    /**
+     * Checks whether the keys of the rows {@code fromIndex} up to {@code toIndex}
+     * are in ascending order.
+     *
+     * @param keys - the keys indexed by row
+     * @param fromIndex - the first row, inclusive
+     * @param toIndex - the last row, exclusive
+     * @return true if the keys are sorted
+     */
+    static boolean isSorted(final long[] keys, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            if (keys[i - 1] > keys[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stable sort of the given row indices by {@code keys[rank]}.
+     *
+     * @param keys - the keys indexed by row
+     * @param ranks - the row indices to sort in place
+     */
+    static void sort(final long[] keys, final int[] ranks) {
+        final int length = ranks.length;
+        if (length < 2) {
+            return;
+        }
+        final int[][] counts = new int[Long.BYTES][RADIX];
+        long[] source = new long[length], target = new long[length];
+        for (int i = 0; i < length; ++i) {
+            // flipping the sign bit turns signed order into unsigned order
+            final long key = keys[ranks[i]] ^ Long.MIN_VALUE;
+            source[i] = key;
+            for (int d = 0; d < Long.BYTES; ++d) {
+                ++counts[d][(int) (key >>> (d * BITS)) & MASK];
+            }
+        }
+        int[] sourceRanks = ranks, targetRanks = new int[length];
+        for (int d = 0; d < Long.BYTES; ++d) {
+            final int[] count = counts[d];
+            final int shift = d * BITS;
+            if (count[(int) (source[0] >>> shift) & MASK] == length) {
+                continue;
+            }
+            for (int i = 0, sum = 0; i < RADIX; ++i) {
+                final int c = count[i];
+                count[i] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < length; ++i) {
+                final long key = source[i];
+                final int j = count[(int) (key >>> shift) & MASK]++;
+                target[j] = key;
+                targetRanks[j] = sourceRanks[i];
+            }
+            final long[] keyBuffer = source;
+            source = target;
+            target = keyBuffer;
+            final int[] rankBuffer = sourceRanks;
+            sourceRanks = targetRanks;
+            targetRanks = rankBuffer;
+        }
+        if (sourceRanks != ranks) {
+            System.arraycopy(sourceRanks, 0, ranks, 0, length);
+        }
+    }
+}
@@ -55,7 +55,7 @@ abstract class Range<E extends Comparable<E>> extends OrdinalList<E> {
   @Override
   public Index cumulativeCounts() {
     final int size = size();
-    final Index result = Index.of(size);
+    final Index result = Index.monotone(size, size);
     int i = 0;
     while (i < size) {
       result.setInt(i, ++i);
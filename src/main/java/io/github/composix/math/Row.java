@@ -28,7 +28,7 @@ import java.util.List;
 
 public interface Row {
     static long parseLong(CharSequence chars) {
-        return Long.parseLong(chars.toString());
+        return Long.parseLong(chars, 0, chars.length(), 10);
     }
 
     Object get(Ordinal kind, int pos);
@@ -27,7 +27,7 @@ package io.github.composix.math;
 public class SafeMatrix extends Matrix {
   public static final int SIZE = 4;
 
-  private VarArgs varargs = new VarArgs(SIZE);
+  private VarArgs varargs = new VarArgs(SIZE, true);
 
   protected SafeMatrix(int ordinal) {
     super(ordinal);
@@ -41,7 +41,7 @@ public class SafeMatrix extends Matrix {
   @Override
   public Args clone() throws CloneNotSupportedException {
     final SafeMatrix result = (SafeMatrix) super.clone();
-    result.varargs = new VarArgs(SIZE);
+    result.varargs = new VarArgs(SIZE, true);
     return result;
   }
 
@@ -0,0 +1,103 @@
+/**
+ * class SegmentedReduce
+ *
+ * Reduction of a long column in group order, one contiguous segment per group.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Reduces a long column whose values are in group order, so that the values of
+ * every group form a contiguous segment delimited by the cumulative counts. The
+ * built-in reducers of {@link Aggregate} are recognized by identity: counting
+ * needs no values at all, and sum, min and max are computed in vector lanes by
+ * {@link LongLanes} when the incubating Vector API module is present, e.g., with
+ * {@code --add-modules jdk.incubator.vector}. Any other reducer, and every
+ * segment shorter than a few vectors, is folded one value at a time.
+ * <p>
+ * Like the scalar fold, every group starts from zero, so the result is the same
+ * on either path.
+ *
+ * @since October 2026
+ */
+final class SegmentedReduce {
+    static final boolean VECTORIZED = ModuleLayer
+        .boot()
+        .findModule("jdk.incubator.vector")
+        .isPresent();
+
+    private SegmentedReduce() {
+    }
+
+    /**
+     * Reduces every segment of the values.
+     *
+     * @param values - the values in group order
+     * @param indices - the cumulative counts of the groups
+     * @param reducer - the reducer
+     * @return the reduction of every group
+     */
+    static long[] reduce(long[] values, Index indices, LongBinaryOperator reducer) {
+        final int length = indices.size();
+        final long[] target = new long[length];
+        int from = 0;
+        for (int i = 0; i < length; ++i) {
+            final int to = indices.getInt(i);
+            target[i] = reduce(values, from, to, reducer);
+            from = to;
+        }
+        return target;
+    }
+
+    static long reduce(long[] values, int from, int to, LongBinaryOperator reducer) {
+        if (reducer == Aggregate.COUNT) {
+            return to - from;
+        }
+        if (VECTORIZED && to - from >= LongLanes.THRESHOLD) {
+            if (reducer == Aggregate.SUM) {
+                return LongLanes.sum(values, from, to);
+            }
+            if (reducer == Aggregate.MIN) {
+                return Math.min(0L, LongLanes.min(values, from, to));
+            }
+            if (reducer == Aggregate.MAX) {
+                return Math.max(0L, LongLanes.max(values, from, to));
+            }
+        }
+        return fold(values, from, to, reducer);
+    }
+
+    static long fold(long[] values, int from, int to, LongBinaryOperator reducer) {
+        long result = 0L;
+        for (int j = from; j < to; ++j) {
+            result = reducer.applyAsLong(result, values[j]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,419 @@
+/**
+ * class Snapshot
+ *
+ * A binary snapshot of the typed columns, the order and the keys of a table,
+ * for restarts that do not parse and sort again.
+ */
+
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes and reads snapshots of a table. A snapshot holds the typed columns in
+ * the order of their slots, each as a tag, its type position and its values in
+ * physical row order, followed by the ranks of the current order and the range
+ * of the primary and the foreign key. Reading extends an empty table with the
+ * columns in the same order, and then restores the order and the keys without
+ * sorting.
+ *
+ * The text columns of a CSV are left out, as they are what a snapshot avoids
+ * reading again. The typed columns keep their positions by type, so that
+ * {@code column(AL, 1)} is the same column after reading, but their slots move
+ * up by the number of text columns in front of them, which shifts the column
+ * indices of {@code longStream(int)}. DTO and joined columns cannot be written.
+ * The values are copied in bulk through a direct buffer, so that writing and
+ * reading are bounded by the disk rather than by the CPU.
+ *
+ * @since October 2026
+ */
+final class Snapshot {
+  private static final long MAGIC = 0x4350585348415001L;
+  private static final int CHUNK = 1 << 16;
+  private static final byte LONG = 0, INT = 1, SHORT = 2, BYTE = 3, DOUBLE = 4,
+    STRING = 5, DICTIONARY = 6;
+
+  private Snapshot() {}
+
+  /**
+   * Writes a snapshot of the given table.
+   *
+   * @param matrix - the table
+   * @param path - the file to write
+   * @throws IOException - if the file cannot be written
+   * @throws UnsupportedOperationException - if a column cannot be written
+   */
+  static void write(Matrix matrix, Path path) throws IOException {
+    final VarArgs varargs = matrix.varArgs();
+    final int mask = varargs.mask(), offset = matrix.offset();
+    int count = 0;
+    for (int i = offset; varargs.argv[i & mask] != null; ++i) {
+      if (varargs.argv[i & mask].getClass() != CharSequence[].class) {
+        ++count;
+      }
+    }
+    try (Out out = new Out(path)) {
+      out.putLong(MAGIC);
+      out.putInt(matrix.amount());
+      out.putInt(count);
+      for (int i = offset; varargs.argv[i & mask] != null; ++i) {
+        final Object source = varargs.argv[i & mask];
+        final ArgsColumn<?> column = varargs.columns[i & mask];
+        switch (source) {
+          case CharSequence[] text when text.getClass() == CharSequence[].class:
+            break;
+          case long[] longs:
+            out.putColumn(LONG, column, ArgsOrdinal.AL).put(longs);
+            break;
+          case LongBuffer buffer:
+            final long[] copy = new long[buffer.limit()];
+            buffer.get(0, copy);
+            out.putColumn(LONG, column, ArgsOrdinal.AL).put(copy);
+            break;
+          case int[] ints:
+            out.putColumn(INT, column, ArgsOrdinal.AI).put(ints);
+            break;
+          case short[] shorts:
+            out.putColumn(SHORT, column, ArgsOrdinal.AD).put(shorts);
+            break;
+          case byte[] bytes:
+            out.putColumn(BYTE, column, ArgsOrdinal.AB).put(bytes);
+            break;
+          case double[] doubles:
+            out.putColumn(DOUBLE, column, ArgsOrdinal.AN).put(doubles);
+            break;
+          case String[] strings:
+            out.putColumn(STRING, column, ArgsOrdinal.S).put(strings);
+            break;
+          case OrdinalList.DictionaryList<?> list when list.dictionary() instanceof String[]:
+            out.putColumn(DICTIONARY, column, ArgsOrdinal.S).put((String[]) list.decode());
+            break;
+          default:
+            throw new UnsupportedOperationException(
+              "cannot write a snapshot of column: " + source.getClass().getSimpleName()
+            );
+        }
+      }
+      if (matrix.isOrdinal()) {
+        out.putInt(-1);
+      } else {
+        out.put(matrix.ordinals);
+      }
+      out.put(matrix.pk);
+      out.put(matrix.fk);
+    }
+  }
+
+  /**
+   * Reads a snapshot into a new table.
+   *
+   * @param path - the file to read
+   * @return the table
+   * @throws IOException - if the file cannot be read
+   * @throws IllegalArgumentException - if the file is no snapshot
+   */
+  static Matrix read(Path path) throws IOException {
+    try (In in = new In(path)) {
+      if (in.getLong() != MAGIC) {
+        throw new IllegalArgumentException("not a snapshot: " + path);
+      }
+      final int rows = in.getInt(), count = in.getInt();
+      final Matrix matrix;
+      try {
+        matrix = (Matrix) Ordinal.of(rows).clone();
+      } catch (CloneNotSupportedException e) {
+        throw new AssertionError(e);
+      }
+      for (int i = 0; i < count; ++i) {
+        final byte tag = in.getByte(), tpos = in.getByte();
+        final int length = in.getInt();
+        matrix.extend(switch (tag) {
+          case LONG -> new ArgsColumn<>(tpos, in.get(new long[length]));
+          case INT -> new ArgsColumn<>(tpos, in.get(new int[length]));
+          case SHORT -> new ArgsColumn<>(tpos, in.get(new short[length]));
+          case BYTE -> new ArgsColumn<>(tpos, in.get(new byte[length]));
+          case DOUBLE -> new ArgsColumn<>(tpos, in.get(new double[length]));
+          case STRING -> new ArgsColumn<>(tpos, (Object[]) in.get(new String[length]));
+          case DICTIONARY -> new ArgsColumn<>(
+            tpos,
+            OrdinalList.DictionaryList.encode(in.get(new String[length]))
+          );
+          default -> throw new IllegalArgumentException("unknown column tag: " + tag);
+        });
+      }
+      final int ranks = in.getInt();
+      if (ranks >= 0) {
+        matrix.ordinals = in.get(new short[ranks]);
+      }
+      matrix.pk = in.getRange(rows);
+      matrix.fk = in.getRange(rows);
+      return matrix;
+    }
+  }
+
+  private static final class Out implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    Out(Path path) throws IOException {
+      channel = FileChannel.open(
+        path,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.WRITE
+      );
+      buffer = ByteBuffer.allocateDirect(CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private ByteBuffer ensure(int bytes) throws IOException {
+      if (buffer.remaining() < bytes) {
+        flush();
+      }
+      return buffer;
+    }
+
+    private void flush() throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      buffer.clear();
+    }
+
+    void putInt(int value) throws IOException {
+      ensure(Integer.BYTES).putInt(value);
+    }
+
+    void putLong(long value) throws IOException {
+      ensure(Long.BYTES).putLong(value);
+    }
+
+    Out putColumn(byte tag, ArgsColumn<?> column, Ordinal type) throws IOException {
+      ensure(2).put(tag).put(column == null ? type.byteValue() : column.tpos);
+      return this;
+    }
+
+    void put(long[] values) throws IOException {
+      putInt(values.length);
+      for (int i = 0, n; i < values.length; i += n) {
+        n = Math.min(values.length - i, ensure(Long.BYTES).remaining() / Long.BYTES);
+        buffer.asLongBuffer().put(values, i, n);
+        buffer.position(buffer.position() + n * Long.BYTES);
+      }
+    }
+
+    void put(int[] values) throws IOException {
+      putInt(values.length);
+      for (int i = 0, n; i < values.length; i += n) {
+        n = Math.min(values.length - i, ensure(Integer.BYTES).remaining() / Integer.BYTES);
+        buffer.asIntBuffer().put(values, i, n);
+        buffer.position(buffer.position() + n * Integer.BYTES);
+      }
+    }
+
+    void put(short[] values) throws IOException {
+      putInt(values.length);
+      for (int i = 0, n; i < values.length; i += n) {
+        n = Math.min(values.length - i, ensure(Short.BYTES).remaining() / Short.BYTES);
+        buffer.asShortBuffer().put(values, i, n);
+        buffer.position(buffer.position() + n * Short.BYTES);
+      }
+    }
+
+    void put(byte[] values) throws IOException {
+      putInt(values.length);
+      putBytes(values);
+    }
+
+    private void putBytes(byte[] values) throws IOException {
+      for (int i = 0, n; i < values.length; i += n) {
+        n = Math.min(values.length - i, ensure(1).remaining());
+        buffer.put(values, i, n);
+      }
+    }
+
+    void put(double[] values) throws IOException {
+      putInt(values.length);
+      for (int i = 0, n; i < values.length; i += n) {
+        n = Math.min(values.length - i, ensure(Double.BYTES).remaining() / Double.BYTES);
+        buffer.asDoubleBuffer().put(values, i, n);
+        buffer.position(buffer.position() + n * Double.BYTES);
+      }
+    }
+
+    void put(String[] values) throws IOException {
+      putInt(values.length);
+      for (String value : values) {
+        if (value == null) {
+          putInt(-1);
+        } else {
+          final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+          putInt(bytes.length);
+          putBytes(bytes);
+        }
+      }
+    }
+
+    void put(ArgsLongSet range) throws IOException {
+      if (range == null) {
+        putInt(-1);
+        return;
+      }
+      put(range.array);
+      final int count = range.array.length;
+      for (int i = 0; i < count; ++i) {
+        putInt(range.indices.getInt(i));
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        flush();
+      } finally {
+        channel.close();
+      }
+    }
+  }
+
+  private static final class In implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    In(Path path) throws IOException {
+      channel = FileChannel.open(path, StandardOpenOption.READ);
+      buffer = ByteBuffer.allocateDirect(CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.flip();
+    }
+
+    private ByteBuffer ensure(int bytes) throws IOException {
+      if (buffer.remaining() < bytes) {
+        buffer.compact();
+        while (buffer.position() < bytes) {
+          if (channel.read(buffer) < 0) {
+            throw new EOFException("snapshot is truncated");
+          }
+        }
+        buffer.flip();
+      }
+      return buffer;
+    }
+
+    byte getByte() throws IOException {
+      return ensure(1).get();
+    }
+
+    int getInt() throws IOException {
+      return ensure(Integer.BYTES).getInt();
+    }
+
+    long getLong() throws IOException {
+      return ensure(Long.BYTES).getLong();
+    }
+
+    long[] get(long[] values) throws IOException {
+      for (int i = 0, n; i < values.length; i += n) {
+        n = Math.min(values.length - i, ensure(Long.BYTES).remaining() / Long.BYTES);
+        buffer.asLongBuffer().get(values, i, n);
+        buffer.position(buffer.position() + n * Long.BYTES);
+      }
+      return values;
+    }
+
+    int[] get(int[] values) throws IOException {
+      for (int i = 0, n; i < values.length; i += n) {
+        n = Math.min(values.length - i, ensure(Integer.BYTES).remaining() / Integer.BYTES);
+        buffer.asIntBuffer().get(values, i, n);
+        buffer.position(buffer.position() + n * Integer.BYTES);
+      }
+      return values;
+    }
+
+    short[] get(short[] values) throws IOException {
+      for (int i = 0, n; i < values.length; i += n) {
+        n = Math.min(values.length - i, ensure(Short.BYTES).remaining() / Short.BYTES);
+        buffer.asShortBuffer().get(values, i, n);
+        buffer.position(buffer.position() + n * Short.BYTES);
+      }
+      return values;
+    }
+
+    byte[] get(byte[] values) throws IOException {
+      for (int i = 0, n; i < values.length; i += n) {
+        n = Math.min(values.length - i, ensure(1).remaining());
+        buffer.get(values, i, n);
+      }
+      return values;
+    }
+
+    double[] get(double[] values) throws IOException {
+      for (int i = 0, n; i < values.length; i += n) {
+        n = Math.min(values.length - i, ensure(Double.BYTES).remaining() / Double.BYTES);
+        buffer.asDoubleBuffer().get(values, i, n);
+        buffer.position(buffer.position() + n * Double.BYTES);
+      }
+      return values;
+    }
+
+    String[] get(String[] values) throws IOException {
+      for (int i = 0; i < values.length; ++i) {
+        final int length = getInt();
+        values[i] = length < 0
+          ? null
+          : new String(get(new byte[length]), StandardCharsets.UTF_8);
+      }
+      return values;
+    }
+
+    ArgsLongSet getRange(int rows) throws IOException {
+      final int count = getInt();
+      if (count < 0) {
+        return null;
+      }
+      final long[] keys = get(new long[count]);
+      final Index indices = Index.monotone(count, rows);
+      for (int i = 0; i < count; ++i) {
+        indices.setInt(i, getInt());
+      }
+      return (ArgsLongSet) Range.ofLongs(indices, keys);
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+}
@@ -35,21 +35,112 @@
 package io.github.composix.math;
 
 import java.util.AbstractList;
+import java.util.function.Supplier;
 
+/**
+ * The arena in which matrices allocate their arguments, columns and positions.
+ * A matrix addresses its slots by {@code (offset() + i) & mask()}, so matrices
+ * sharing an arena must not be modified concurrently. By default all matrices
+ * share the global {@link #VARARGS} arena; queries that run concurrently should
+ * each be given an arena of their own via {@link #scoped(Supplier)}.
+ *
+ * The arena of a single matrix can be made growable: when the arguments of the
+ * matrix, counted upwards from its offset, and its scratch columns, counted
+ * downwards from its offset, no longer fit, the arrays double in size and the
+ * scratch columns are moved to the top of the enlarged arrays. Matrices that
+ * are not wider than the initial arena keep the masked addressing as is.
+ *
+ * Besides the slots, an arena owns the scratch state that the queries
+ * allocating from it need, such as the row cursor used by {@code combine}.
+ *
+ * @author dr. ir. J. M. Valk
+ * @since April 2025
+ */
 public final class VarArgs extends AbstractList<ArgsColumn<?>> implements Cloneable {
 
   public static final VarArgs VARARGS = new VarArgs(Short.SIZE);
 
   private static final IndexOutOfBoundsException OUT_OF_BOUNDS = new IndexOutOfBoundsException();
 
-  public final Index positions;
-  public final Object[] argv;
-  public final ArgsColumn<?>[] columns;
+  // ScopedValue is still a preview API; a thread local that is restored on
+  // exit gives the same nesting semantics
+  private static final ThreadLocal<VarArgs> SCOPE = new ThreadLocal<>();
+
+  public Index positions;
+  public Object[] argv;
+  public ArgsColumn<?>[] columns;
+
+  private final boolean growable;
+  private Cursor cursor;
 
   VarArgs(final int bits) {
+    this(bits, false);
+  }
+
+  VarArgs(final int bits, final boolean growable) {
     positions = Index.of(1 << bits, Short.MAX_VALUE);
     argv = new Object[1 << bits];
     columns = new ArgsColumn[1 << bits];
+    this.growable = growable;
+  }
+
+  /**
+   * Returns the arena bound to the current thread by {@link #scoped(Supplier)},
+   * or the global {@link #VARARGS} arena if no arena is bound.
+   *
+   * @return the current arena
+   */
+  public static VarArgs current() {
+    final VarArgs result = SCOPE.get();
+    return result == null ? VARARGS : result;
+  }
+
+  /**
+   * Evaluates the given query with a fresh arena bound to the current thread,
+   * so that all matrices created by the query allocate from that arena. This
+   * allows independent queries to run in parallel on different threads. The
+   * previously bound arena, if any, is restored afterwards.
+   *
+   * @param <T> - the type of the result of the query
+   * @param query - the query to evaluate
+   * @return the result of the query
+   */
+  public static <T> T scoped(Supplier<? extends T> query) {
+    return scoped(Short.SIZE, query);
+  }
+
+  /**
+   * Evaluates the given query with a fresh arena of {@code 1 << bits} slots
+   * bound to the current thread.
+   *
+   * @param <T> - the type of the result of the query
+   * @param bits - the number of bits of the mask of the arena
+   * @param query - the query to evaluate
+   * @return the result of the query
+   * @see #scoped(Supplier)
+   */
+  public static <T> T scoped(int bits, Supplier<? extends T> query) {
+    if (bits < 1 || bits > Short.SIZE) {
+      throw new IllegalArgumentException("bits out of range: " + bits);
+    }
+    final VarArgs outer = SCOPE.get();
+    SCOPE.set(new VarArgs(bits));
+    try {
+      return query.get();
+    } finally {
+      if (outer == null) {
+        SCOPE.remove();
+      } else {
+        SCOPE.set(outer);
+      }
+    }
+  }
+
+  Cursor cursor() {
+    if (cursor == null) {
+      cursor = Cursor.ofRow(new byte[16]);
+    }
+    return cursor;
   }
 
   @Override
@@ -98,6 +189,65 @@ public final class VarArgs extends AbstractList<ArgsColumn<?>> implements Clonea
     return --result;
   }
 
+  /**
+   * Makes room for {@code forward} slots from the given offset upwards and for
+   * {@code backward} slots below it, keeping at least one empty slot in between
+   * to terminate scans. A growable arena doubles its size until everything
+   * fits; other arenas are left unchanged. Callers must re-read the arrays and
+   * the mask of this arena afterwards.
+   *
+   * @param offset - the offset of the matrix, before masking
+   * @param forward - the number of slots required from the offset upwards
+   * @param backward - the number of slots required below the offset
+   * @throws IndexOutOfBoundsException if the arena cannot grow any further
+   */
+  void reserve(final int offset, int forward, int backward) {
+    if (!growable) {
+      return;
+    }
+    final int length = argv.length, mask = length - 1, origin = offset & mask;
+    int below = 0, above = 0;
+    while (below < mask && occupied((origin - below - 1) & mask)) {
+      ++below;
+    }
+    for (int i = length - below - 1; i > 0; --i) {
+      if (occupied((origin + i - 1) & mask)) {
+        above = i;
+        break;
+      }
+    }
+    forward = Math.max(forward, above);
+    backward = Math.max(backward, below);
+    int size = length;
+    while (forward + backward >= size) {
+      size <<= 1;
+    }
+    if (size == length) {
+      return;
+    }
+    if (size > 1 << Short.SIZE) {
+      throw new IndexOutOfBoundsException("size exceeds mask");
+    }
+    final Index positions = Index.of(size, Short.MAX_VALUE);
+    final Object[] argv = new Object[size];
+    final ArgsColumn<?>[] columns = new ArgsColumn[size];
+    final int target = offset & (size - 1);
+    for (int i = 0; i < length; ++i) {
+      final int source = (origin + i) & mask;
+      final int j = (target + (i < length - below ? i : i - length)) & (size - 1);
+      positions.setInt(j, this.positions.getInt(source));
+      argv[j] = this.argv[source];
+      columns[j] = this.columns[source];
+    }
+    this.positions = positions;
+    this.argv = argv;
+    this.columns = columns;
+  }
+
+  private boolean occupied(int index) {
+    return argv[index] != null || columns[index] != null;
+  }
+
   public byte position(final int offset, final int mask, int index, byte pos) {
     if (pos < 0) {
       throw OUT_OF_BOUNDS;
@@ -25,7 +25,9 @@
 package io.github.composix.varargs;
 
 import java.util.function.Function;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.LongBinaryOperator;
+import java.util.function.ToDoubleFunction;
 import java.util.function.ToLongFunction;
 
 import io.github.composix.math.Ordinal;
@@ -43,4 +45,6 @@ public interface KeysI<A, N> {
   LongI1<A, N> thenByA(Ordinal col, ToLongFunction<A> accessor);
 
   LongI1<A, N> collectA(ToLongFunction<A> accessor, LongBinaryOperator reducer);
+
+  LongI1<A, N> collectDoubleA(ToDoubleFunction<A> accessor, DoubleBinaryOperator reducer);
 }
@@ -26,7 +26,9 @@ package io.github.composix.varargs;
 
 import io.github.composix.math.Ordinal;
 import java.util.function.Function;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.LongBinaryOperator;
+import java.util.function.ToDoubleFunction;
 import java.util.function.ToLongFunction;
 
 public interface KeysII<A, B, N> extends KeysI<A, N> {
@@ -48,5 +50,11 @@ public interface KeysII<A, B, N> extends KeysI<A, N> {
     LongBinaryOperator reducer
   );
 
+  @Override
+  LongII1<A, B, N> collectDoubleA(
+    ToDoubleFunction<A> accessor,
+    DoubleBinaryOperator reducer
+  );
+
   KeysII2<A, B, N, B> thenOnB();
 }
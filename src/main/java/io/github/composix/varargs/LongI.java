@@ -24,7 +24,9 @@
 
 package io.github.composix.varargs;
 
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.LongBinaryOperator;
+import java.util.function.ToDoubleFunction;
 import java.util.function.ToLongFunction;
 
 import io.github.composix.math.Cols;
@@ -34,4 +36,5 @@ public interface LongI<A> {
   Cols done();
   LongI<A> andByA(Ordinal col, ToLongFunction<A> accessor);
   LongI<A> collectA(ToLongFunction<A> accessor, LongBinaryOperator reducer);
+  LongI<A> collectDoubleA(ToDoubleFunction<A> accessor, DoubleBinaryOperator reducer);
 }
@@ -25,7 +25,9 @@
 package io.github.composix.varargs;
 
 import io.github.composix.math.Ordinal;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.LongBinaryOperator;
+import java.util.function.ToDoubleFunction;
 import java.util.function.ToLongFunction;
 
 public interface LongI1<A, N> extends LongI<A> {
@@ -37,4 +39,7 @@ public interface LongI1<A, N> extends LongI<A> {
 
   @Override
   LongI1<A, N> collectA(ToLongFunction<A> accessor, LongBinaryOperator reducer);
+
+  @Override
+  LongI1<A, N> collectDoubleA(ToDoubleFunction<A> accessor, DoubleBinaryOperator reducer);
 }
@@ -24,8 +24,10 @@
 
 package io.github.composix.varargs;
 
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.Function;
 import java.util.function.LongBinaryOperator;
+import java.util.function.ToDoubleFunction;
 import java.util.function.ToLongFunction;
 
 import io.github.composix.math.Column;
@@ -35,7 +37,7 @@ import io.github.composix.models.Defaults;
 
 class Table<A extends Defaults<A>, B, C, N, O, P>
   extends SafeMatrix
-  implements Chars,ArgsIII<A, B, C>, KeysII2<A, B, N, O>, KeysIII<A, B, C, N>, LongII2<A,B,N,O> {
+  implements Chars,ArgsIII<A, B, C>, KeysII2<A, B, N, O>, KeysIII<A, B, C, N>, LongII2<A,B,N,O>, LongIII<A, B, C> {
 
   Table(final int ordinal) {
     super(ordinal);
@@ -69,7 +71,7 @@ class Table<A extends Defaults<A>, B, C, N, O, P>
 
   @Override
   public LongIII<A, B, C> groupByA(final ToLongFunction<A> accessor) {
-    return (LongIII<A, B, C>) _groupBy(A, accessor);
+    return (LongIII<A, B, C>) hashBy(A, accessor);
   }
 
   // from the Keys interface
@@ -107,6 +109,14 @@ class Table<A extends Defaults<A>, B, C, N, O, P>
     return (LongII1<A, B, N>) collect(A, accessor, reducer);
   }
 
+  @Override
+  public LongII1<A, B, N> collectDoubleA(
+    ToDoubleFunction<A> accessor,
+    DoubleBinaryOperator reducer
+  ) {
+    return (LongII1<A, B, N>) collectDouble(A, accessor, reducer);
+  }
+
   @Override
   public KeysII2<A, B, N, B> thenOnB() {
     // TODO Auto-generated method stub
@@ -35,6 +35,9 @@ import io.github.composix.testing.testdata.PetstoreTestData;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -125,4 +128,41 @@ public class PetstoreCsvTest extends TestCase implements PetstoreTestData {
       pets.stream().toArray(Pet[]::new)
     );
   }
+
+  @Test
+  void testBytes() throws IOException, NoSuchFieldException {
+    Args photoUrls = csv("photoUrls.csv").fk("petId:", AL).attr("photoUrl:", S);
+
+    Args categories = csv("categories.csv").combine(Category.DEFAULTS).attach();
+
+    categories.primaryKey(A, Category::id);
+
+    Args tags = csv("tags.csv").combine(Tag.DEFAULTS).attach();
+
+    tags.primaryKey(A, Tag::id);
+
+    Args tagging = csv("tagging.csv")
+      .fk("tagId:", AL)
+      .joinOne(tags)
+      .fk("petId:", AL);
+
+    Column<Pet> pets = csv("petstore.csv")
+      .fk("categoryId:", AL)
+      .joinOne(categories)
+      .pk("id:", AL)
+      .joinMany(tagging)
+      .joinMany(photoUrls)
+      .combine(Pet.DEFAULTS);
+
+    assertAllEquals(
+      PETS.column(A).stream().toArray(Pet[]::new),
+      pets.stream().toArray(Pet[]::new)
+    );
+  }
+
+  private static Args csv(String filename) throws IOException {
+    return OMEGA.extend(
+      ByteBuffer.wrap(Files.readAllBytes(Path.of("src/test/resources", filename)))
+    );
+  }
 }
@@ -24,7 +24,10 @@
 
 package io.github.composix;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -85,4 +88,36 @@ class StreamVsVarargsTest extends TestCase implements PetstoreTestData {
     );
     assertAllEquals(sums, petsByCategory.longColumn(1).longStream().toArray());
   }
+
+  @Test
+  void testHalfPetIdsByCategory() {
+    // Given the stream of pets
+    Stream<Pet> streamOfPets = pets.columnA(1).stream();
+
+    // When computing half the sum of the pet ids using streams
+    Map<Category, Double> petsByCategoryMap = streamOfPets.collect(
+      Collectors.groupingBy(
+        Pet::category,
+        TreeMap::new,
+        Collectors.summingDouble(pet -> pet.id() / 2.0)
+      )
+    );
+    double[] sums = petsByCategoryMap
+      .values()
+      .stream()
+      .mapToDouble(Double::doubleValue)
+      .toArray();
+
+    // And when computing the same result on a double column using (Var)Args
+    ArgsI<Category> petsByCategory = pets
+      .groupByA(Pet::category)
+      .collectDoubleA(pet -> pet.id() / 2.0, Double::sum)
+      .done();
+
+    // Then check that both approaches yield the same result
+    assertArrayEquals(
+      sums,
+      petsByCategory.doubleColumn(1).stream().mapToDouble(Double::doubleValue).toArray()
+    );
+  }
 }
@@ -30,53 +30,45 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import io.github.composix.testing.TestCase;
 
 class ArgsOrdinalTest extends TestCase {
 
-  static Ordinal[] ORDINALS;
-
-  @BeforeAll
-  static void beforeAll() throws CloneNotSupportedException {
-    ORDINALS = OrdinalNumber.ORDINALS;
-  }
-
   @Test
   void testOMEGA() {
-    assertSame(ORDINALS[-Short.MIN_VALUE], OMEGA);
+    assertSame(Ordinal.of(-Short.MIN_VALUE), OMEGA);
   }
 
   @Test
   void testAlphabet() {
-    assertSame(ORDINALS[0], A);
-    assertSame(ORDINALS[1], B);
-    assertSame(ORDINALS[2], C);
-    assertSame(ORDINALS[3], D);
-    assertSame(ORDINALS[4], E);
-    assertSame(ORDINALS[5], F);
-    assertSame(ORDINALS[6], G);
-    assertSame(ORDINALS[7], H);
-    assertSame(ORDINALS[8], I);
-    assertSame(ORDINALS[9], J);
-    assertSame(ORDINALS[10], K);
-    assertSame(ORDINALS[11], L);
-    assertSame(ORDINALS[12], M);
-    assertSame(ORDINALS[13], N);
-    assertSame(ORDINALS[14], O);
-    assertSame(ORDINALS[15], P);
-    assertSame(ORDINALS[16], Q);
-    assertSame(ORDINALS[17], R);
-    assertSame(ORDINALS[18], S);
-    assertSame(ORDINALS[19], T);
-    assertSame(ORDINALS[20], U);
-    assertSame(ORDINALS[21], V);
-    assertSame(ORDINALS[22], W);
-    assertSame(ORDINALS[23], X);
-    assertSame(ORDINALS[24], Y);
-    assertSame(ORDINALS[25], Z);
+    assertSame(Ordinal.of(0), A);
+    assertSame(Ordinal.of(1), B);
+    assertSame(Ordinal.of(2), C);
+    assertSame(Ordinal.of(3), D);
+    assertSame(Ordinal.of(4), E);
+    assertSame(Ordinal.of(5), F);
+    assertSame(Ordinal.of(6), G);
+    assertSame(Ordinal.of(7), H);
+    assertSame(Ordinal.of(8), I);
+    assertSame(Ordinal.of(9), J);
+    assertSame(Ordinal.of(10), K);
+    assertSame(Ordinal.of(11), L);
+    assertSame(Ordinal.of(12), M);
+    assertSame(Ordinal.of(13), N);
+    assertSame(Ordinal.of(14), O);
+    assertSame(Ordinal.of(15), P);
+    assertSame(Ordinal.of(16), Q);
+    assertSame(Ordinal.of(17), R);
+    assertSame(Ordinal.of(18), S);
+    assertSame(Ordinal.of(19), T);
+    assertSame(Ordinal.of(20), U);
+    assertSame(Ordinal.of(21), V);
+    assertSame(Ordinal.of(22), W);
+    assertSame(Ordinal.of(23), X);
+    assertSame(Ordinal.of(24), Y);
+    assertSame(Ordinal.of(25), Z);
   }
 
   @Test
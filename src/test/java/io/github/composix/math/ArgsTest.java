@@ -25,6 +25,7 @@
 package io.github.composix.math;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -84,6 +85,53 @@ public class ArgsTest extends PetstoreTestCase {
     );
   }
 
+  @Test
+  void testJoinOneRef() {
+    Args result = orders
+      .foreignKey(A, Order::petId)
+      .joinOneRef(pets.primaryKey(A, Pet::id));
+
+    final VarArgs varargs = orders.varArgs();
+    final int slot = (orders.hashCode() + 1) & varargs.mask();
+    assertInstanceOf(ArgsRefs.class, varargs.argv[slot]);
+
+    List<Order> orderList = result.column(A);
+    orderList.sort(Comparator.comparingLong(Order::id));
+
+    assertAllSame(
+      all(MICKEY, DUCHESS, DONALD, PLUTO, FREY, MICKEY),
+      result.stream(B).toArray(Pet[]::new)
+    );
+    assertInstanceOf(Pet[].class, varargs.argv[slot]);
+  }
+
+  @Test
+  void testHashJoinOne() {
+    Args result = orders
+      .hashKey(A, Order::petId)
+      .joinOne(pets.primaryKey(A, Pet::id));
+
+    // the orders are probed in place, so they keep their original order
+    assertTrue(result.isOrdinal());
+
+    assertAllSame(
+      all(MICKEY, DUCHESS, DONALD, PLUTO, FREY, MICKEY),
+      result.stream(B).toArray(Pet[]::new)
+    );
+  }
+
+  @Test
+  void testHashJoinOne_missingKey() {
+    pets.hashKey(A, Pet::id);
+
+    assertEquals(
+      "no primary key found matching to foreign key: 6",
+      assertThrows(IllegalArgumentException.class, () ->
+        pets.joinOne(orders.primaryKey(A, Order::id))
+      ).getMessage()
+    );
+  }
+
   @Test
   void testJoinOne_missingKeys() {
     assertEquals(
@@ -145,6 +193,40 @@ public class ArgsTest extends PetstoreTestCase {
     );
   }
 
+  @Test
+  void testJoinManyValues() {
+    pets.primaryKey(A, Pet::id).joinMany(orders.hashKey(A, Order::petId));
+
+    // the orders per pet are stored as one flat array plus offsets
+    VarArgs varargs = pets.varArgs();
+    int mask = varargs.mask(), offset = pets.hashCode() & mask;
+    ArgsMany<?> many = assertInstanceOf(ArgsMany.class, varargs.argv[++offset & mask]);
+    assertEquals(6, many.values.length);
+
+    List<Order> empty = List.of();
+    assertEquals(
+      List.of(empty, List.of(P), List.of(R), empty, List.of(S), List.of(O, T), List.of(Q), empty),
+      many
+    );
+  }
+
+  @Test
+  void testJoinManySingleValues() {
+    // joining on the order ids, every pet matches at most one order
+    pets.primaryKey(A, Pet::id).joinMany(orders.hashKey(A, Order::id));
+
+    // the join column still holds a list per pet
+    VarArgs varargs = pets.varArgs();
+    int mask = varargs.mask(), offset = pets.hashCode() & mask;
+    ArgsMany<?> many = assertInstanceOf(ArgsMany.class, varargs.argv[++offset & mask]);
+
+    List<Order> empty = List.of();
+    assertEquals(
+      List.of(List.of(O), List.of(P), List.of(Q), List.of(R), List.of(S), List.of(T), empty, empty),
+      many
+    );
+  }
+
   private static Matrix assertClone(Matrix matrix)
     throws CloneNotSupportedException {
     // Given a matrix with corresponding varargs
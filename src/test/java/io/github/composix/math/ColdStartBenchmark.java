@@ -0,0 +1,89 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Cold-start benchmark for the constants of the ordinal type system: the time
+ * to the first ordinal and the heap retained by the constants. Every round
+ * loads the classes in a fresh class loader, so that they are initialized again.
+ *
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=ColdStartBenchmark}.
+ */
+class ColdStartBenchmark {
+    private static final int ROUNDS = 20;
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void testColdStart() throws Exception {
+        final URL classes = Constants.class.getProtectionDomain().getCodeSource().getLocation();
+        long elapsed = 0, retained = 0;
+        for (int i = 0; i < ROUNDS; ++i) {
+            try (URLClassLoader loader = new URLClassLoader(
+                new URL[] { classes }, ClassLoader.getPlatformClassLoader()
+            )) {
+                final long heap = usedHeap();
+                final long start = System.nanoTime();
+                final Class<?> type = Class.forName(Constants.class.getName(), true, loader);
+                final Method getInstance = type.getDeclaredMethod("getInstance");
+                final Method ordinal = type.getDeclaredMethod("ordinal", int.class);
+                getInstance.setAccessible(true);
+                ordinal.setAccessible(true);
+                final Object constants = getInstance.invoke(null);
+                final Number z = (Number) ordinal.invoke(constants, 25);
+                elapsed += System.nanoTime() - start;
+                retained += usedHeap() - heap;
+                assertSame(type, constants.getClass());
+                assertEquals(25, z.intValue());
+            }
+        }
+        System.out.printf(
+            "time to first ordinal: %.3f ms, retained heap: %d KiB%n",
+            elapsed / 1e6 / ROUNDS,
+            retained / 1024 / ROUNDS
+        );
+    }
+
+    private static long usedHeap() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+}
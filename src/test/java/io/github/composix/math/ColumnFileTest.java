@@ -0,0 +1,132 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.composix.models.examples.Category;
+
+class ColumnFileTest {
+
+  @Test
+  void testValues() throws IOException {
+    final Path path = Files.createTempFile("values", ".col");
+    try {
+      ColumnFile.write(path, 3, LongStream.of(30, -10, 20));
+      final ColumnFile file = ColumnFile.map(path);
+      assertNull(file.range);
+      assertTrue(file.values.isDirect());
+      assertEquals(3, file.values.limit());
+      assertEquals(-10, file.values.get(1));
+      assertThrows(ReadOnlyBufferException.class, () -> file.values.put(0, 1));
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  void testKey() throws IOException {
+    final Index indices = Index.of(3, 5);
+    indices.setInt(0, 1);
+    indices.setInt(1, 4);
+    indices.setInt(2, 5);
+    final Path path = Files.createTempFile("key", ".col");
+    try {
+      ColumnFile.write(path, Range.ofLongs(indices, new long[] {2, 7, 9}));
+      final ColumnFile file = ColumnFile.map(path);
+      final long[] values = new long[5];
+      file.values.get(0, values);
+      assertArrayEquals(new long[] {2, 7, 7, 7, 9}, values);
+      assertArrayEquals(new long[] {2, 7, 9}, file.range.array);
+      assertEquals(4, file.range.indices.getInt(1));
+      assertEquals(5, file.range.indices.getInt(2));
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  void testJoin() throws IOException, CloneNotSupportedException, NoSuchFieldException {
+    final String categories = "\"id\";\"name\"\n\"0\";\"cats\"\n\"1\";\"dogs\"\n\"2\";\"other\"\n";
+    final Path pk = Files.createTempFile("pk", ".col");
+    final Path fk = Files.createTempFile("fk", ".col");
+    final Path ids = Files.createTempFile("ids", ".col");
+    try {
+      Ordinal.OMEGA.extend(csv(categories)).pk("id:", Ordinal.AL).savePk(pk);
+      Ordinal.OMEGA
+        .extend(csv("\"id\";\"categoryId\"\n\"7\";\"1\"\n\"8\";\"0\"\n\"9\";\"1\"\n\"6\";\"2\"\n"))
+        .fk("categoryId:", Ordinal.AL)
+        .attr("id:", Ordinal.AL)
+        .saveFk(fk)
+        .save(Ordinal.C, ids);
+      final Args rhs = Ordinal.OMEGA
+        .extend(csv(categories))
+        .combine(Category.DEFAULTS)
+        .attach()
+        .pk(pk);
+      final Args lhs = Ordinal.of(4).clone().fk(fk).attr(ids).joinOne(rhs);
+      assertArrayEquals(new long[] {8, 7, 9, 6}, lhs.longStream(1).toArray());
+      assertEquals(
+        List.of("cats", "dogs", "dogs", "other"),
+        lhs.column(Ordinal.A).stream().map(category -> ((Category) category).name()).toList()
+      );
+      assertThrows(IllegalArgumentException.class, () -> Ordinal.of(5).clone().attr(ids));
+      assertThrows(IllegalArgumentException.class, () -> Ordinal.of(5).clone().pk(pk));
+    } finally {
+      Files.delete(pk);
+      Files.delete(fk);
+      Files.delete(ids);
+    }
+  }
+
+  private static ByteBuffer csv(String text) {
+    return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testNoColumnFile() throws IOException {
+    final Path path = Files.createTempFile("text", ".csv");
+    try {
+      Files.writeString(path, "\"id\";\"tag\"\n\"0\";\"mice\"\n");
+      assertThrows(IllegalArgumentException.class, () -> ColumnFile.map(path));
+    } finally {
+      Files.delete(path);
+    }
+  }
+}
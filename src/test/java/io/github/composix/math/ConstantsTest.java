@@ -24,7 +24,18 @@
 
 package io.github.composix.math;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -34,14 +45,90 @@ class ConstantsTest {
     static void beforeAll() {
         final Constants constants = Constants.getInstance();
         assertSame(Ordinal.OMEGA, constants.omega());
-        assertSame(OrdinalNumber.ORDINALS, constants.ordinals);
-        assertSame(ArgsOrdinal.A, constants.ordinals[0]);
-        assertSame(ArgsOrdinal.B, constants.ordinals[1]);
-        assertSame(ArgsOrdinal.C, constants.ordinals[2]);
+        assertSame(ArgsOrdinal.A, constants.ordinal(0));
+        assertSame(ArgsOrdinal.B, constants.ordinal(1));
+        assertSame(ArgsOrdinal.C, constants.ordinal(2));
     }
 
     @Test
     void testConstants() {
         beforeAll();
     }
+
+    @Test
+    void testOnDemand() {
+        final Constants constants = Constants.getInstance();
+        final Ordinal[] ordinals = IntStream.range(0, Short.MAX_VALUE)
+            .parallel()
+            .mapToObj(i -> constants.ordinal(Short.MAX_VALUE - i))
+            .toArray(Ordinal[]::new);
+        for (int i = 0; i < ordinals.length; ++i) {
+            assertSame(ordinals[i], constants.ordinal(Short.MAX_VALUE - i));
+            assertSame(ordinals[i], Ordinal.of(Short.MAX_VALUE - i));
+        }
+        assertSame(constants.column(1), constants.omega());
+        assertSame(constants.column(2), constants.column(2));
+    }
+
+    @Test
+    void testAboveOmega() {
+        final Constants constants = Constants.getInstance();
+        final int omega = -Short.MIN_VALUE;
+        final Ordinal[] ordinals = IntStream.range(omega, omega + Short.MAX_VALUE)
+            .parallel()
+            .mapToObj(constants::ordinal)
+            .toArray(Ordinal[]::new);
+        for (int i = 0; i < ordinals.length; ++i) {
+            assertEquals(omega + i, ordinals[i].intValue());
+            assertSame(ordinals[i], constants.ordinal(omega + i));
+        }
+        assertSame(constants.omega(), ordinals[0]);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> constants.ordinal(omega + Short.MAX_VALUE));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> constants.ordinal(-1));
+    }
+
+    @Test
+    void testConcurrentFirstUse() throws Exception {
+        final URL classes = Constants.class.getProtectionDomain().getCodeSource().getLocation();
+        for (int i = 0; i < 20; ++i) {
+            // a fresh class loader initializes the classes again
+            try (URLClassLoader loader = new URLClassLoader(
+                new URL[] { classes }, ClassLoader.getPlatformClassLoader()
+            )) {
+                final CountDownLatch start = new CountDownLatch(1), done = new CountDownLatch(2);
+                final Thread constants = new Thread(() -> {
+                    try {
+                        start.await();
+                        final Class<?> type = Class.forName(Constants.class.getName(), true, loader);
+                        final Method getInstance = type.getDeclaredMethod("getInstance");
+                        final Method ordinal = type.getDeclaredMethod("ordinal", int.class);
+                        getInstance.setAccessible(true);
+                        ordinal.setAccessible(true);
+                        ordinal.invoke(getInstance.invoke(null), 1000);
+                        done.countDown();
+                    } catch (ReflectiveOperationException | InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+                final Thread ordinal = new Thread(() -> {
+                    try {
+                        start.await();
+                        final Class<?> type = Class.forName(OrdinalInt.class.getName(), true, loader);
+                        final Constructor<?> constructor = type.getDeclaredConstructor(int.class);
+                        constructor.setAccessible(true);
+                        constructor.newInstance(3);
+                        done.countDown();
+                    } catch (ReflectiveOperationException | InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+                constants.setDaemon(true);
+                ordinal.setDaemon(true);
+                constants.start();
+                ordinal.start();
+                start.countDown();
+                assertTrue(done.await(10, TimeUnit.SECONDS), "deadlock on first use");
+            }
+        }
+    }
 }
@@ -0,0 +1,79 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class CsvTokenizerTest {
+
+  private static CharSequence[][] tokenize(String csv) {
+    return CsvTokenizer.tokenize(ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void testTokenize() {
+    final CharSequence[][] columns = tokenize(
+      "\"id\";\"name\"\r\n\"1\";\"x\"y\"\r\n\r\n\"2\";\"é\"\n\"3\";\"\""
+    );
+    assertEquals(2, columns.length);
+    assertSame("id:", columns[0][0]);
+    assertSame("name:", columns[1][0]);
+    assertArrayEquals(
+      new String[] { "1", "2", "3" },
+      new String[] { columns[0][1].toString(), columns[0][2].toString(), columns[0][3].toString() }
+    );
+    assertInstanceOf(CsvTokenizer.Text.class, columns[1][1]);
+    assertEquals("x\"y", columns[1][1].toString());
+    assertEquals("é", columns[1][2]);
+    assertEquals(0, columns[1][3].length());
+    assertEquals("\"y", columns[1][1].subSequence(1, 3).toString());
+  }
+
+  @Test
+  void testExtend() throws NoSuchFieldException {
+    final Args args = Ordinal.OMEGA
+      .extend(ByteBuffer.wrap("\"id\";\"tag\"\n\"0\";\"mice\"\n\"2\";\"misc\"\n".getBytes()))
+      .pk("id:", Ordinal.AL)
+      .attr("tag:", Ordinal.S);
+    assertEquals(2, args.amount());
+    assertArrayEquals(new long[] { 0, 2 }, ((Matrix) args).pk.array);
+  }
+
+  @Test
+  void testNoCsv() {
+    assertThrows(IllegalArgumentException.class, () -> tokenize(""));
+    assertThrows(IllegalArgumentException.class, () -> tokenize("id;tag\n"));
+    assertThrows(IllegalArgumentException.class, () -> tokenize("\"id\";\"tag\"\n\"0\"\n"));
+    assertThrows(IllegalArgumentException.class, () -> tokenize("\"id\"\n\"0\n"));
+  }
+}
@@ -0,0 +1,63 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HashJoinTest {
+
+  @Test
+  void testMatch() {
+    final long[] build = { 7, -3, 0 };
+    final int[] matches = HashJoin.match(build, new int[] { 10, 11, 12 }, new long[] { 0, 7, 8, -3 });
+    assertEquals(12, matches[0]);
+    assertEquals(10, matches[1]);
+    assertEquals(LongHashTable.EMPTY, matches[2]);
+    assertEquals(11, matches[3]);
+  }
+
+  @Test
+  void testPartitionedMatch() {
+    final int size = 5_000, amount = 4 * MutableOrder.PARALLEL_THRESHOLD;
+    final long[] build = new long[size];
+    final int[] values = new int[size];
+    for (int i = 0; i < size; ++i) {
+      build[i] = 3L * i;
+      values[i] = i;
+    }
+    final long[] probe = new Random(4).longs(amount, 0, 4L * size).toArray();
+    assertTrue(probe.length >= MutableOrder.PARALLEL_THRESHOLD);
+    final int[] matches = HashJoin.match(build, values, probe);
+    for (int j = 0; j < amount; ++j) {
+      final long key = probe[j];
+      assertEquals(key % 3 == 0 && key < 3L * size ? (int) (key / 3) : LongHashTable.EMPTY, matches[j]);
+    }
+  }
+}
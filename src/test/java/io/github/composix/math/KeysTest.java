@@ -53,6 +53,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import io.github.composix.models.examples.Category;
 import io.github.composix.models.examples.Order;
 import io.github.composix.models.examples.Pet;
+import java.util.List;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -106,6 +107,28 @@ class KeysTest extends PetstoreTestCase {
     assertNull(argv[--offset & mask]);
   }
 
+  @Test
+  void testGroupByDone() throws CloneNotSupportedException {
+    // Given pets whose categories alternate...
+    final Category cats = new Category(0, "cats"), dogs = new Category(1, "dogs");
+    final Matrix matrix = (Matrix) E.clone().extend(
+      A,
+      new Pet(0, "Thomas", Pet.Status.SOLD, cats, null, null),
+      new Pet(1, "Pluto", Pet.Status.AVAILABLE, dogs, null, null),
+      new Pet(2, "Duchess", Pet.Status.SOLD, cats, null, null),
+      new Pet(3, "Goofy", Pet.Status.PENDING, dogs, null, null)
+    );
+
+    // When grouping them by category and collecting the groups...
+    Args categories = matrix.groupBy(A, Pet::category).$done();
+
+    // ...then the result holds the distinct categories in their natural order
+    assertAllEquals(
+      all(cats, dogs),
+      categories.column(A).stream().toArray(Category[]::new)
+    );
+  }
+
   @Test
   void testGroupBy_ORDERS() {
     // When grouping orders by quantity...
@@ -144,6 +167,70 @@ class KeysTest extends PetstoreTestCase {
     assertEquals(6,indices.getInt(1));
   }
 
+  @Test
+  void testHashBy_ORDERS() {
+    // When hashing orders by pet id and summing their ids...
+    assertSame(
+      orders,
+      orders.hashBy(A, Order::petId).collect(A, Order::id, Long::sum)
+    );
+    // ...then the orders themselves are not reordered
+    assertTrue(orders.isOrdinal());
+
+    // Then the underlying VarArgs...
+    int mask = orderVarArgs.mask(), offset = orders.hashCode() & mask;
+    Column<?>[] columns = orderVarArgs.columns;
+
+    // ...contains the same keys and indices as groupBy would
+    Range<?> range = ((ArgsColumn<?>) columns[--offset & mask]).range();
+    assertAllEquals(any(1L, 2L, 4L, 5L, 6L), range.asArray());
+    Index indices = range.indices;
+    assertEquals(5, indices.size());
+    assertEquals(3, indices.getInt(2));
+    assertEquals(5, indices.getInt(3));
+
+    // ...and the sums per group
+    assertArrayEquals(
+      new long[] { 1, 3, 4, 5, 2 },
+      (long[]) ((ArgsColumn<?>) columns[--offset & mask]).elements.asArray()
+    );
+  }
+
+  @Test
+  void testCollectAggregates_ORDERS() {
+    // When grouping orders by pet id and collecting four aggregates at once...
+    assertSame(
+      orders,
+      orders
+        .groupBy(A, Order::petId)
+        .collect(
+          A,
+          List.of(
+            Aggregate.sum(Order::id),
+            Aggregate.count(),
+            Aggregate.of(Order::quantity, Aggregate.MIN),
+            Aggregate.of(Order::quantity, Aggregate.MAX)
+          )
+        )
+    );
+
+    // Then the underlying VarArgs contains a column per aggregate, in order
+    int mask = orderVarArgs.mask(), offset = (orders.hashCode() & mask) - 1;
+    Column<?>[] columns = orderVarArgs.columns;
+    long[][] expected = {
+      { 1, 3, 4, 5, 2 },
+      { 1, 1, 1, 2, 1 },
+      { 1, 2, 2, 1, 1 },
+      { 1, 2, 2, 2, 1 },
+    };
+    for (long[] aggregate : expected) {
+      assertArrayEquals(
+        aggregate,
+        (long[]) ((ArgsColumn<?>) columns[--offset & mask]).elements.asArray()
+      );
+    }
+  }
+
   @Test
   @Disabled
   void testThenBy() {
@@ -158,4 +245,20 @@ class KeysTest extends PetstoreTestCase {
         .toArray()
     );
   }
+
+  @Test
+  void testAccessorKeys() {
+    final String[] source = { "noot", "aap", "mies" };
+    // Fresh accessors extract every key once...
+    assertArrayEquals(
+      new long[] { 4, 3, 4 },
+      (long[]) Accessor.OfLong.of(String::length).keys(source)
+    );
+    assertArrayEquals(
+      new Object[] { 'n', 'a', 'm' },
+      (Object[]) Accessor.OfObject.of((String s) -> s.charAt(0)).keys(source)
+    );
+    // ...without touching the shared instance
+    assertSame(source, Accessor.OfObject.INSTANCE.keys(source));
+  }
 }
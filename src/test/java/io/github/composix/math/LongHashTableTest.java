@@ -0,0 +1,58 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongHashTableTest {
+
+  @Test
+  void testPutIfAbsent() {
+    final LongHashTable table = new LongHashTable(4);
+    assertEquals(LongHashTable.EMPTY, table.putIfAbsent(0L, 0));
+    assertEquals(LongHashTable.EMPTY, table.putIfAbsent(-1L, 1));
+    assertEquals(0, table.putIfAbsent(0L, 2));
+    assertEquals(2, table.size());
+    assertEquals(1, table.get(-1L));
+    assertEquals(LongHashTable.EMPTY, table.get(1L));
+  }
+
+  @Test
+  void testGrow() {
+    final long[] keys = new Random(3).longs(10_000).toArray();
+    final LongHashTable table = new LongHashTable(4);
+    for (int i = 0; i < keys.length; ++i) {
+      table.putIfAbsent(keys[i], i);
+    }
+    assertEquals(keys.length, table.size());
+    for (int i = 0; i < keys.length; ++i) {
+      assertEquals(i, table.get(keys[i]));
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Random;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class MergeSortTest {
+
+  @Test
+  void testSort() {
+    final int[] keys = new Random(3).ints(1_000, 0, 50).toArray();
+    final IntBinaryOperator comparator = (lhs, rhs) -> Integer.compare(keys[lhs], keys[rhs]);
+    final short[] ranks = ranks(keys.length);
+    MergeSort.sort(ranks, 100, 900, comparator);
+    assertArrayEquals(expected(keys, 100, 900), ranks);
+  }
+
+  @Test
+  void testParallelSort() {
+    final int[] keys = new Random(4).ints(Short.MAX_VALUE, 0, 1_000).toArray();
+    final IntBinaryOperator comparator = (lhs, rhs) -> Integer.compare(keys[lhs], keys[rhs]);
+    final short[] ranks = ranks(keys.length);
+    MergeSort.parallelSort(ranks, 0, keys.length, comparator);
+    assertArrayEquals(expected(keys, 0, keys.length), ranks);
+  }
+
+  private static short[] ranks(int length) {
+    final short[] result = new short[length];
+    for (int i = 0; i < length; ++i) {
+      result[i] = (short) i;
+    }
+    return result;
+  }
+
+  // the ranks outside the range stay put, those inside are sorted stably
+  private static short[] expected(int[] keys, int fromIndex, int toIndex) {
+    final short[] result = ranks(keys.length);
+    final int[] sorted = IntStream.range(fromIndex, toIndex)
+      .boxed()
+      .sorted((lhs, rhs) -> Integer.compare(keys[lhs], keys[rhs]))
+      .mapToInt(Integer::intValue)
+      .toArray();
+    for (int i = 0; i < sorted.length; ++i) {
+      result[fromIndex + i] = (short) sorted[i];
+    }
+    return result;
+  }
+}
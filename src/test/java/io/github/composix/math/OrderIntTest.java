@@ -0,0 +1,90 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class OrderIntTest {
+
+  @Test
+  void testPermute() {
+    final OrderInt order = new OrderInt(5);
+    order.ordinals = new short[] { 3, 1, 2, 0, 4 };
+    final Object[] array = { "A", "B", "C", "D", "E", "F", "G", "H" };
+    order.permute(6, 7, array);
+    assertArrayEquals(new Object[] { "A", "G", "C", "D", "E", "F", "B", "H" }, array);
+  }
+
+  @Test
+  void testSelect() {
+    final OrderInt order = new OrderInt(2);
+    order.ordinals = new short[] { 3, 0 };
+    final Object[] array = { "A", "B", "C", "D" };
+    order.permute(0, 3, array);
+    assertArrayEquals(new Object[] { "D", "A", "C", "D" }, array);
+  }
+
+  @Test
+  void testConcurrentPermute() {
+    IntStream.range(0, 1000).parallel().forEach(n -> {
+      final int length = 1 + n % 64;
+      final OrderInt order = new OrderInt(length);
+      order.ordinals = new short[length];
+      final Object[] array = new Object[length], expected = new Object[length];
+      for (int i = 0; i < length; ++i) {
+        order.ordinals[i] = (short) (length - 1 - i);
+        array[i] = i;
+        expected[i] = length - 1 - i;
+      }
+      order.permute(0, 63, array);
+      assertArrayEquals(expected, array);
+    });
+  }
+
+  @Test
+  void testParallelReorder() {
+    final int amount = Math.min(Short.MAX_VALUE, 2 * MutableOrder.PARALLEL_THRESHOLD);
+    final long[] keys = IntStream.range(0, amount).mapToLong(i -> (amount - i) / 2).toArray();
+    final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    final OrderInt order = new OrderInt(amount), parallel = new OrderInt(amount);
+    order.reorder((lhs, rhs) -> {
+      threads.add(Thread.currentThread());
+      return Long.compare(keys[lhs.intValue()], keys[rhs.intValue()]);
+    });
+    // only comparators over extracted keys may be called from other threads
+    assertEquals(Set.of(Thread.currentThread()), threads);
+    parallel.reorder((KeyComparator) (lhs, rhs) -> Long.compare(keys[lhs], keys[rhs]));
+    for (int i = 0; i < amount; ++i) {
+      assertEquals(order.rank(i), parallel.rank(i));
+    }
+  }
+}
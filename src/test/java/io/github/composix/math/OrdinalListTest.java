@@ -25,6 +25,10 @@
 package io.github.composix.math;
 
 import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.LongBuffer;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -103,4 +107,162 @@ public class OrdinalListTest {
         assertEquals(20, list.getInt(0));
         assertSame(ArgsOrdinal.U, list.get(0));
     }
+
+    /**
+     * Tests that a column of type int[] keeps its values as int, widening them
+     * to long only when read as such.
+     */
+    @Test
+    public void testIntList() {
+        OrdinalList<Integer> list = new OrdinalList.IntList(new int[] {3, -1, 2});
+        assertTrue(list.asArray() instanceof int[]);
+        assertEquals(3, list.size());
+        assertEquals(-1, list.getInt(1));
+        assertEquals(-1L, list.getLong(1));
+        assertEquals(Integer.valueOf(2), list.get(2));
+        assertThrows(UnsupportedOperationException.class, list::asLongArray);
+    }
+
+    /**
+     * Tests that a double column groups into the range of its distinct values,
+     * so that it can serve as key.
+     */
+    @Test
+    public void testDoubleRange() {
+        Matrix matrix = (Matrix) Ordinal.F.extend(Ordinal.AN.any(.5, 2, .5, -1, 2));
+        Column<Double> column = matrix.doubleColumn(1);
+        column.sort(null);
+        Range<?> range = (Range<?>) column.range();
+        assertEquals(List.of(-1.0, .5, 2.0), range);
+        assertEquals(1, range.indices.getInt(0));
+        assertEquals(3, range.indices.getInt(1));
+        assertEquals(5, range.indices.getInt(2));
+    }
+
+    /**
+     * Tests that a dictionary-encoded list stores every distinct value once and
+     * codes the rows by their position in the sorted dictionary.
+     */
+    @Test
+    public void testDictionaryList() {
+        String[] values = {"dogs", "cats", "dogs", "other", "cats"};
+        OrdinalList.DictionaryList<String> list = OrdinalList.DictionaryList.encode(values);
+        assertArrayEquals(new String[] {"cats", "dogs", "other"}, list.dictionary());
+        assertEquals(5, list.size());
+        assertEquals(1, list.getInt(0));
+        assertEquals(0, list.getInt(1));
+        assertEquals(2, list.getInt(3));
+        assertEquals("other", list.get(3));
+        assertArrayEquals(values, list.decode());
+    }
+
+    /**
+     * Tests that reading a dictionary-encoded column of a table as an array
+     * decodes a copy, so that the table keeps the codes.
+     */
+    @Test
+    public void testDictionaryColumn() {
+        Column<String> column = Ordinal.S.dictionary("dogs", "cats", "dogs", "other", "cats");
+        Matrix matrix = (Matrix) Ordinal.F.extend(column);
+        assertEquals(String.class, matrix.typeOf(Ordinal.A));
+        assertArrayEquals(
+            new Object[] {"dogs", "cats", "dogs", "other", "cats"},
+            matrix.stream(Ordinal.A).toArray()
+        );
+        VarArgs varargs = matrix.varArgs();
+        assertInstanceOf(
+            OrdinalList.DictionaryList.class,
+            varargs.argv[matrix.offset() & varargs.mask()]
+        );
+    }
+
+    /**
+     * Tests that an index whose values take a number of bits other than a byte,
+     * short or int is bit-packed, also where values straddle two words.
+     */
+    @Test
+    public void testPackedIndex() {
+        assertInstanceOf(OrdinalList.PackedIndex.class, Index.of(100, 4095));
+        assertInstanceOf(OrdinalList.ByteIndex.class, Index.of(100, 100));
+        Index index = Index.of(100, 4095);
+        for (int i = 0; i < 100; ++i) {
+            index.setInt(i, (i * 97) % 4096);
+        }
+        for (int i = 0; i < 100; ++i) {
+            assertEquals((i * 97) % 4096, index.getInt(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> index.getInt(100));
+    }
+
+    /**
+     * Tests that packing an index takes its minimum as frame of reference.
+     */
+    @Test
+    public void testPack() {
+        Index index = Index.of(3, 2000);
+        index.setInt(0, 1000);
+        index.setInt(1, 1005);
+        index.setInt(2, 1002);
+        Index packed = Index.pack(index);
+        assertInstanceOf(OrdinalList.PackedIndex.class, packed);
+        assertEquals(1000, packed.getInt(0));
+        assertEquals(1005, packed.getInt(1));
+        assertEquals(1002, packed.getInt(2));
+    }
+
+    /**
+     * Tests that the cumulative counts of many groups are Elias-Fano encoded and
+     * read back unchanged, including empty and large gaps.
+     */
+    @Test
+    public void testMonotoneIndex() {
+        Index index = Index.monotone(1000, 1000000);
+        assertInstanceOf(OrdinalList.MonotoneIndex.class, index);
+        int[] values = new int[1000];
+        for (int i = 1; i < values.length; ++i) {
+            values[i] = values[i - 1] + (i % 7 == 0 ? 0 : (i * 31) % 1990);
+        }
+        values[values.length - 1] = 1000000;
+        for (int i = 0; i < values.length; ++i) {
+            index.setInt(i, values[i]);
+        }
+        for (int i = 0; i < values.length; ++i) {
+            assertEquals(values[i], index.getInt(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new OrdinalList.MonotoneIndex(10, 100).setInt(1, 5));
+        Index decreasing = new OrdinalList.MonotoneIndex(10, 100);
+        decreasing.setInt(0, 50);
+        assertThrows(IllegalArgumentException.class, () -> decreasing.setInt(1, 40));
+    }
+
+    /**
+     * Tests that an off-heap index keeps its values in a direct buffer.
+     */
+    @Test
+    public void testBufferIndex() {
+        OrdinalList<Long> list = new OrdinalList.BufferIndex(3);
+        assertTrue(((LongBuffer) list.asArray()).isDirect());
+        assertEquals(3, list.size());
+        list.setInt(2, 42);
+        assertEquals(42L, list.getLong(2));
+        assertEquals(Long.valueOf(0L), list.get(0));
+        assertThrows(UnsupportedOperationException.class, list::asLongArray);
+    }
+
+    /**
+     * Tests that a table reads an off-heap column in place, without copying it
+     * onto the heap.
+     */
+    @Test
+    public void testBufferColumn() {
+        LongBuffer buffer = Ordinal.allocate(4);
+        buffer.put(0, 30).put(1, 10).put(2, 40).put(3, 20);
+        Matrix matrix = (Matrix) Ordinal.E.extend(Ordinal.AL.any(buffer));
+        assertEquals(Ordinal.of(2), matrix.ordinalAt(Ordinal.A, 40L));
+        matrix.longColumn(1).sort(null);
+        assertArrayEquals(new long[] {10, 20, 30, 40}, matrix.longStream(Ordinal.A).toArray());
+        assertEquals(Ordinal.of(3), matrix.ordinalAt(Ordinal.A, 40L));
+        assertSame(Ordinal.OMEGA, matrix.ordinalAt(Ordinal.A, 25L));
+        assertSame(buffer, matrix.varArgs().argv[matrix.offset() & matrix.varArgs().mask()]);
+    }
 }
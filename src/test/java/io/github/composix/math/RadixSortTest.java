@@ -0,0 +1,66 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class RadixSortTest {
+
+  @Test
+  void testSort() {
+    final long[] keys = new Random(1).longs(10_000, -500, 500).toArray();
+    keys[0] = Long.MIN_VALUE;
+    keys[1] = Long.MAX_VALUE;
+    final int[] ranks = IntStream.range(0, keys.length).toArray();
+    RadixSort.sort(keys, ranks);
+    final int[] expected = IntStream.range(0, keys.length)
+      .boxed()
+      .sorted((lhs, rhs) -> Long.compare(keys[lhs], keys[rhs]))
+      .mapToInt(Integer::intValue)
+      .toArray();
+    assertArrayEquals(expected, ranks);
+  }
+
+  @Test
+  void testReorderMatchesComparator() {
+    final int amount = 5_000;
+    final long[] keys = new Random(2).longs(amount, 0, 100).toArray();
+    final OrderInt radix = new OrderInt(amount), comparison = new OrderInt(amount);
+    radix.reorder(keys);
+    comparison.reorder((lhs, rhs) -> Long.compare(keys[lhs.intValue()], keys[rhs.intValue()]));
+    for (int i = 0; i < amount; ++i) {
+      assertTrue(radix.rank(i) == comparison.rank(i));
+    }
+    final long[] sorted = IntStream.range(0, amount).mapToLong(i -> i).toArray();
+    radix.reorder(sorted);
+    assertTrue(radix.isOrdinal());
+  }
+}
@@ -0,0 +1,110 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Benchmark of the reduction of a grouped long column: the former path that
+ * advances a spliterator with a consumer per value, the scalar fold over the
+ * contiguous segments, and the segmented reduction in vector lanes.
+ *
+ * Run with {@code mvn test -Dbenchmark=true -Dtest=SegmentedReduceBenchmark}.
+ */
+class SegmentedReduceBenchmark {
+  private static final int SIZE = 1 << 20, GROUPS = 1 << 10, ROUNDS = 50;
+
+  @Test
+  @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+  void testSegmentedReduce() {
+    final long[] values = new Random(16).longs(SIZE, 0, 1_000_000).toArray();
+    final Index indices = Index.of(GROUPS, SIZE);
+    for (int i = 0; i < GROUPS; ++i) {
+      indices.setInt(i, (i + 1) * (SIZE / GROUPS));
+    }
+    for (LongBinaryOperator reducer : new LongBinaryOperator[] {
+      Aggregate.SUM,
+      Aggregate.MIN,
+      Aggregate.MAX,
+    }) {
+      final long[] expected = spliterator(values, indices, reducer);
+      assertArrayEquals(expected, fold(values, indices, reducer));
+      assertArrayEquals(expected, SegmentedReduce.reduce(values, indices, reducer));
+      System.out.printf(
+        "spliterator: %.3f ms, fold: %.3f ms, segmented (vectorized=%b): %.3f ms%n",
+        time(() -> spliterator(values, indices, reducer)),
+        time(() -> fold(values, indices, reducer)),
+        SegmentedReduce.VECTORIZED,
+        time(() -> SegmentedReduce.reduce(values, indices, reducer))
+      );
+    }
+  }
+
+  private static double time(Runnable runnable) {
+    for (int i = 0; i < ROUNDS; ++i) {
+      runnable.run();
+    }
+    final long start = System.nanoTime();
+    for (int i = 0; i < ROUNDS; ++i) {
+      runnable.run();
+    }
+    return (System.nanoTime() - start) / 1e6 / ROUNDS;
+  }
+
+  private static long[] spliterator(long[] values, Index indices, LongBinaryOperator reducer) {
+    final Spliterator.OfLong spliterator = LongStream.of(values).spliterator();
+    final int length = indices.size();
+    final long[] target = new long[length];
+    int j = 0;
+    for (int i = 0; i < length; ++i) {
+      final int index = i;
+      while (j++ < indices.getInt(i)) {
+        spliterator.tryAdvance((long value) -> target[index] = reducer.applyAsLong(target[index], value));
+      }
+      --j;
+    }
+    return target;
+  }
+
+  private static long[] fold(long[] values, Index indices, LongBinaryOperator reducer) {
+    final int length = indices.size();
+    final long[] target = new long[length];
+    int from = 0;
+    for (int i = 0; i < length; ++i) {
+      final int to = indices.getInt(i);
+      target[i] = SegmentedReduce.fold(values, from, to, reducer);
+      from = to;
+    }
+    return target;
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import java.util.function.LongBinaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+class SegmentedReduceTest {
+
+  @Test
+  void testReduce() {
+    final long[] values = new Random(16).longs(1_000, -1_000_000, 1_000_000).toArray();
+    final Index indices = Index.of(4, values.length);
+    indices.setInt(0, 3);
+    indices.setInt(1, 3);
+    indices.setInt(2, 500);
+    indices.setInt(3, values.length);
+    for (LongBinaryOperator reducer : new LongBinaryOperator[] {
+      Aggregate.SUM,
+      Aggregate.MIN,
+      Aggregate.MAX,
+      Aggregate.COUNT,
+    }) {
+      final long[] expected = new long[indices.size()];
+      int from = 0;
+      for (int i = 0; i < expected.length; ++i) {
+        final int to = indices.getInt(i);
+        expected[i] = SegmentedReduce.fold(values, from, to, reducer);
+        from = to;
+      }
+      assertArrayEquals(expected, SegmentedReduce.reduce(values, indices, reducer));
+    }
+  }
+
+  @Test
+  void testReduceCustom() {
+    final long[] values = { 1, 2, 3, 4 };
+    final Index indices = Index.of(1, values.length);
+    indices.setInt(0, values.length);
+    assertEquals(-10, SegmentedReduce.reduce(values, indices, (lhs, rhs) -> lhs - rhs)[0]);
+  }
+}
@@ -0,0 +1,137 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SnapshotTest {
+
+  @Test
+  void testColumns() throws IOException, CloneNotSupportedException {
+    final Matrix matrix = (Matrix) Ordinal.of(4).clone();
+    matrix.extend(Ordinal.AL.any(4L, 2L, 3L, 1L));
+    matrix.extend(Ordinal.AN.any(.5, .25, 1, 2));
+    matrix.extend(Ordinal.AI.any(7, 8, 9, 10));
+    matrix.extend(Ordinal.S.all(new String[] { "d", "b", "c", "a" }));
+    matrix.longColumn(1).sort(null);
+    final Path path = Files.createTempFile("table", ".cpx");
+    try {
+      matrix.snapshot(path);
+      final Matrix result = (Matrix) Args.load(path);
+      assertEquals(4, result.amount());
+      assertArrayEquals(matrix.ordinals, result.ordinals);
+      assertEquals(List.of(1L, 2L, 3L, 4L), result.longColumn(1).stream().toList());
+      assertEquals(List.of(2.0, .25, 1.0, .5), result.doubleColumn(1).stream().toList());
+      assertEquals(List.of(10, 8, 9, 7), result.intColumn(1).stream().toList());
+      assertEquals(List.of("a", "b", "c", "d"), result.stringColumn(1).stream().toList());
+      assertNull(result.pk);
+      assertNull(result.fk);
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  void testKeys() throws IOException, NoSuchFieldException {
+    final Matrix matrix = (Matrix) Ordinal.OMEGA
+      .extend("id\";\"tag", "1\";\"ducks", "0\";\"mice", "2\";\"misc")
+      .split(ArgsOrdinal.PATTERN)
+      .pk("id:", Ordinal.AL);
+    final Path path = Files.createTempFile("table", ".cpx");
+    try {
+      matrix.snapshot(path);
+      final Matrix result = (Matrix) Args.load(path);
+      assertTrue(result.isOrdinal() == matrix.isOrdinal());
+      assertArrayEquals(new long[] { 0, 1, 2 }, result.pk.array);
+      for (int i = 0; i < 3; ++i) {
+        assertEquals(matrix.pk.indices.getInt(i), result.pk.indices.getInt(i));
+      }
+      assertNull(result.fk);
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  void testCsv() throws IOException, NoSuchFieldException {
+    final Matrix matrix = (Matrix) Ordinal.OMEGA
+      .extend(
+        ByteBuffer.wrap(
+          "\"id\";\"categoryId\";\"name\"\n\"3\";\"1\";\"c\"\n\"1\";\"0\";\"a\"\n\"2\";\"1\";\"b\"\n"
+            .getBytes()
+        )
+      )
+      .pk("id:", Ordinal.AL)
+      .fk("categoryId:", Ordinal.AL)
+      .attr("id:", Ordinal.AL)
+      .attr("name:", Ordinal.S);
+    final Path path = Files.createTempFile("table", ".cpx");
+    try {
+      matrix.snapshot(path);
+      final Matrix result = (Matrix) Args.load(path);
+      assertEquals(3, result.amount());
+      assertArrayEquals(matrix.ordinals, result.ordinals);
+      assertArrayEquals(matrix.pk.array, result.pk.array);
+      assertArrayEquals(matrix.fk.array, result.fk.array);
+      for (int i = 0; i < matrix.fk.array.length; ++i) {
+        assertEquals(matrix.fk.indices.getInt(i), result.fk.indices.getInt(i));
+      }
+      assertEquals(
+        matrix.longColumn(1).stream().toList(),
+        result.longColumn(1).stream().toList()
+      );
+      assertEquals(
+        matrix.stringColumn(1).stream().toList(),
+        result.stringColumn(1).stream().toList()
+      );
+      // the text columns are left out, so the typed columns move up
+      assertArrayEquals(matrix.longStream(3).toArray(), result.longStream(0).toArray());
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  void testNoSnapshot() throws IOException {
+    final Path path = Files.createTempFile("text", ".csv");
+    try {
+      Files.writeString(path, "\"id\";\"tag\"\n\"0\";\"mice\"\n");
+      assertThrows(IllegalArgumentException.class, () -> Args.load(path));
+    } finally {
+      Files.delete(path);
+    }
+  }
+}
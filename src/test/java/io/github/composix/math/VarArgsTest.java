@@ -0,0 +1,197 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2025 ComPosiX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.composix.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import io.github.composix.models.examples.Category;
+import io.github.composix.models.examples.Pet;
+import org.junit.jupiter.api.Test;
+
+class VarArgsTest {
+
+  @Test
+  void testReserve() {
+    final VarArgs varargs = new VarArgs(2, true);
+    final Object scratch = new long[0];
+    varargs.argv[0] = "A";
+    varargs.argv[1] = "B";
+    varargs.argv[3] = scratch;
+    varargs.reserve(0, 2, 1);
+    assertEquals(3, varargs.mask());
+    varargs.reserve(0, 3, 1);
+    assertEquals(7, varargs.mask());
+    assertSame("A", varargs.argv[0]);
+    assertSame("B", varargs.argv[1]);
+    assertNull(varargs.argv[3]);
+    assertSame(scratch, varargs.argv[7]);
+    final VarArgs fixed = new VarArgs(2);
+    fixed.reserve(0, 8, 8);
+    assertEquals(3, fixed.mask());
+  }
+
+  @Test
+  void testWideSchema() throws NoSuchFieldException {
+    final int width = 40;
+    final CharSequence[] lines = new CharSequence[3];
+    for (int i = 0; i < lines.length; ++i) {
+      final StringBuilder line = new StringBuilder();
+      for (int j = 0; j < width; ++j) {
+        if (j > 0) {
+          line.append(ArgsOrdinal.QUOTE).append(ArgsOrdinal.DELIM).append(ArgsOrdinal.QUOTE);
+        }
+        line.append(i == 0 ? "c" + j : Integer.toString(100 * i + j));
+      }
+      lines[i] = line.toString();
+    }
+    final Args args = Ordinal.OMEGA
+      .extend(lines)
+      .split(ArgsOrdinal.PATTERN)
+      .fk("c0:", ArgsOrdinal.AL)
+      .attr("c39:", ArgsOrdinal.S);
+    assertEquals(List.of("139", "239"), args.column(ArgsOrdinal.S));
+  }
+
+  @Test
+  void testScoped() {
+    assertSame(VarArgs.VARARGS, VarArgs.current());
+    VarArgs.scoped(() -> {
+      final VarArgs outer = VarArgs.current();
+      assertNotSame(VarArgs.VARARGS, outer);
+      assertSame(outer, new Matrix(0).varArgs());
+      VarArgs.scoped(4, () -> {
+        assertNotSame(outer, VarArgs.current());
+        assertEquals(15, VarArgs.current().mask());
+        return null;
+      });
+      assertSame(outer, VarArgs.current());
+      return null;
+    });
+    assertSame(VarArgs.VARARGS, VarArgs.current());
+    assertThrows(IllegalArgumentException.class, () -> VarArgs.scoped(0, () -> null));
+  }
+
+  @Test
+  void testScopedResult() {
+    // Given the result of a scoped query...
+    final long[] values = LongStream.range(0, 100).toArray();
+    final Matrix first = VarArgs.scoped(() -> {
+      final Matrix matrix = new Matrix(values.length);
+      matrix.extend(0, values.length, values);
+      return matrix;
+    });
+
+    // ...when another scoped query runs on the same thread...
+    VarArgs.scoped(() -> {
+      assertNotSame(first.varArgs(), VarArgs.current());
+      for (int i = 0; i < 256; ++i) {
+        new Matrix(values.length).extend(0, values.length, new long[values.length]);
+      }
+      return null;
+    });
+
+    // ...then the first result still holds its own values
+    assertArrayEquals(values, first.longStream(0).toArray());
+  }
+
+  @Test
+  void testConcurrentQueries() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final Future<?>[] futures = new Future<?>[16];
+      for (int i = 0; i < futures.length; ++i) {
+        final long n = 1000 + i;
+        futures[i] = executor.submit(() ->
+          VarArgs.scoped(() -> {
+            final Matrix matrix = new Matrix((int) n);
+            assertSame(VarArgs.current(), matrix.varArgs());
+            final long[] values = LongStream.range(0, n).map(x -> n - x).toArray();
+            matrix.extend(0, (int) n, values);
+            assertArrayEquals(values, matrix.longStream(0).toArray());
+            return null;
+          })
+        );
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testConcurrentGroupBy() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<List<String>>> futures = new ArrayList<>();
+      for (int i = 0; i < 16; ++i) {
+        final int n = 1 + i % 4;
+        futures.add(
+          executor.submit(() ->
+            VarArgs.scoped(() -> {
+              final Pet[] pets = new Pet[3 * n];
+              for (int j = 0; j < pets.length; ++j) {
+                final Category category = new Category(j % n, "c" + j % n);
+                pets[j] = new Pet(j, "p" + j, Pet.Status.AVAILABLE, category, null, null);
+              }
+              final Matrix matrix = new Matrix(pets.length);
+              assertSame(VarArgs.current(), matrix.varArgs());
+              return matrix
+                .extend(ArgsOrdinal.A, pets)
+                .groupBy(ArgsOrdinal.A, Pet::category)
+                .$done()
+                .<Category>column(ArgsOrdinal.A)
+                .stream()
+                .map(Category::name)
+                .toList();
+            })
+          )
+        );
+      }
+      for (int i = 0; i < futures.size(); ++i) {
+        assertEquals(
+          IntStream.range(0, 1 + i % 4).mapToObj(j -> "c" + j).toList(),
+          futures.get(i).get()
+        );
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}